@@ -27,6 +27,7 @@ import java.lang.reflect.Constructor;
 import java.util.Comparator;
 import java.util.Iterator;
 import java.util.Optional;
+import java.util.function.BinaryOperator;
 
 /**
  * A MapReduce is composed of map(), combine(), and reduce() stages.
@@ -119,6 +120,19 @@ public interface MapReduce<MK, MV, RK, RV, R> extends Cloneable {
     public default void reduce(final MK key, final Iterator<MV> values, final ReduceEmitter<RK, RV> emitter) {
     }
 
+    /**
+     * If the reduce() stage is an associative and commutative fold of the values of a key, then the operator of that
+     * fold can be provided. A {@link GraphComputer} may then merge the values of a key with the operator as they are
+     * emitted and only provide the merged value to reduce(), which avoids gathering all the values of a key in one
+     * place. As such, reduce() must yield the same result for the merged value as it does for the values that were
+     * merged. The default implementation returns {@link Optional#empty}.
+     *
+     * @return an {@link Optional} of the operator that merges two values of a key into one.
+     */
+    public default Optional<BinaryOperator<MV>> getReduceOperator() {
+        return Optional.empty();
+    }
+
     /**
      * This method is called at the start of the respective {@link MapReduce.Stage} for a particular "chunk of vertices."
      * The set of vertices in the graph are typically not processed with full parallelism.
@@ -46,4 +46,14 @@ public interface Messenger<M> {
      */
     public void sendMessage(final MessageScope messageScope, final M message);
 
+    /**
+     * Keeps the currently executing vertex in the frontier of the next iteration of a message-driven
+     * {@link VertexProgram} even if it receives no messages. A {@link GraphComputer} that does not track the frontier
+     * executes every vertex in every iteration and thus the default implementation does nothing.
+     *
+     * @see VertexProgram#isMessageDriven()
+     */
+    public default void keepActive() {
+    }
+
 }
@@ -162,6 +162,19 @@ public interface VertexProgram<M> extends Cloneable {
         return Optional.empty();
     }
 
+    /**
+     * Determines whether the vertex program is message-driven. After the initial iteration, a message-driven vertex
+     * program has nothing to do at a vertex unless it was sent messages in the previous iteration or it called
+     * {@link Messenger#keepActive()}. A {@link GraphComputer} may then only execute the vertices of that frontier,
+     * which saves much work when few vertices remain active. A {@link GraphComputer} is free to execute all vertices
+     * anyway, so executing a vertex outside the frontier must not alter the result of the vertex program.
+     *
+     * @return whether or not the vertex program is message-driven
+     */
+    public default boolean isMessageDriven() {
+        return false;
+    }
+
     /**
      * This method returns all the {@link MessageScope} possibilities for a particular iteration of the vertex program.
      * The returned messages scopes are the scopes that will be used to send messages during the stated iteration.
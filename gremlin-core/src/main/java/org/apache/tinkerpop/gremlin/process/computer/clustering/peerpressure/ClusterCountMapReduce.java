@@ -30,7 +30,9 @@ import org.apache.commons.configuration.Configuration;
 import java.io.Serializable;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.Optional;
 import java.util.Set;
+import java.util.function.BinaryOperator;
 
 /**
  * @author Marko A. Rodriguez (http://markorodriguez.com)
@@ -75,14 +77,42 @@ public class ClusterCountMapReduce extends StaticMapReduce<MapReduce.NullObject,
         }
     }
 
+    @Override
+    public Optional<BinaryOperator<Serializable>> getReduceOperator() {
+        return Optional.of(ClusterCountMapReduce::union);
+    }
+
     @Override
     public void reduce(final NullObject key, final Iterator<Serializable> values, final ReduceEmitter<NullObject, Integer> emitter) {
         final Set<Serializable> set = new HashSet<>();
-        values.forEachRemaining(set::add);
+        values.forEachRemaining(value -> addClusters(set, value));
         emitter.emit(NullObject.instance(), set.size());
 
     }
 
+    /**
+     * Merges two values into the set of distinct clusters they represent. A value is either a single cluster as
+     * emitted by map() or an already merged set, which can not be mistaken for a cluster as clusters are vertex ids.
+     */
+    private static Serializable union(final Serializable a, final Serializable b) {
+        final HashSet<Serializable> set;
+        if (a instanceof HashSet)
+            set = (HashSet<Serializable>) a;
+        else {
+            set = new HashSet<>();
+            set.add(a);
+        }
+        addClusters(set, b);
+        return set;
+    }
+
+    private static void addClusters(final Set<Serializable> set, final Serializable value) {
+        if (value instanceof HashSet)
+            set.addAll((HashSet<Serializable>) value);
+        else
+            set.add(value);
+    }
+
     @Override
     public Integer generateFinalResult(final Iterator<KeyValue<NullObject, Integer>> keyValues) {
         return keyValues.next().getValue();
@@ -30,6 +30,8 @@ import java.io.Serializable;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.Map;
+import java.util.Optional;
+import java.util.function.BinaryOperator;
 
 /**
  * @author Marko A. Rodriguez (http://markorodriguez.com)
@@ -77,6 +79,11 @@ public class ClusterPopulationMapReduce extends StaticMapReduce<Serializable, Lo
         this.reduce(key, values, emitter);
     }
 
+    @Override
+    public Optional<BinaryOperator<Long>> getReduceOperator() {
+        return Optional.of(Long::sum);
+    }
+
     @Override
     public void reduce(final Serializable key, final Iterator<Long> values, final ReduceEmitter<Serializable, Long> emitter) {
         long count = 0l;
@@ -48,6 +48,19 @@ import java.util.Optional;
 import java.util.Set;
 
 /**
+ * Computes the PageRank of every vertex in the graph.
+ * <p/>
+ * By default, every vertex is executed in every iteration where the rank of the vertices without outgoing edges is
+ * teleported back to all vertices so that the ranks sum to one. In delta mode, a vertex only sends the change in its
+ * rank to its neighbors and only when the change is larger than the epsilon divided by the number of vertices. As
+ * the program is then message-driven, the vertices that have converged are no longer executed. The ranks of delta
+ * mode follow the classic {@code (1 - alpha) / |V| + alpha * sum(rank / outDegree)} where an initial rank, if
+ * provided, takes the place of {@code 1 / |V|}. As the rank of the vertices without outgoing edges is not teleported,
+ * the ranks sum to less than one in graphs with such vertices.
+ * <p/>
+ * When seeds are provided, the PageRank is personalized in that teleportation only ever returns to the vertices for
+ * which the seed traversal yields a result.
+ *
  * @author Marko A. Rodriguez (http://markorodriguez.com)
  */
 public class PageRankVertexProgram implements VertexProgram<Double> {
@@ -64,11 +77,17 @@ public class PageRankVertexProgram implements VertexProgram<Double> {
     private static final String INITIAL_RANK_TRAVERSAL = "gremlin.pageRankVertexProgram.initialRankTraversal";
     private static final String TELEPORTATION_ENERGY = "gremlin.pageRankVertexProgram.teleportationEnergy";
     private static final String CONVERGENCE_ERROR = "gremlin.pageRankVertexProgram.convergenceError";
+    private static final String DELTA = "gremlin.pageRankVertexProgram.delta";
+    private static final String SEED_TRAVERSAL = "gremlin.pageRankVertexProgram.seedTraversal";
+    private static final String SEED = "gremlin.pageRankVertexProgram.seed";
+    private static final String SEED_COUNT = "gremlin.pageRankVertexProgram.seedCount";
 
     private MessageScope.Local<Double> incidentMessageScope = MessageScope.Local.of(__::outE);
     private MessageScope.Local<Double> countMessageScope = MessageScope.Local.of(new MessageScope.Local.ReverseTraversalSupplier(this.incidentMessageScope));
     private PureTraversal<Vertex, Edge> edgeTraversal = null;
     private PureTraversal<Vertex, ? extends Number> initialRankTraversal = null;
+    private PureTraversal<Vertex, ?> seedTraversal = null;
+    private boolean delta = false;
     private double alpha = 0.85d;
     private double epsilon = 0.00001d;
     private int maxIterations = 20;
@@ -84,6 +103,8 @@ public class PageRankVertexProgram implements VertexProgram<Double> {
     public void loadState(final Graph graph, final Configuration configuration) {
         if (configuration.containsKey(INITIAL_RANK_TRAVERSAL))
             this.initialRankTraversal = PureTraversal.loadState(configuration, INITIAL_RANK_TRAVERSAL, graph);
+        if (configuration.containsKey(SEED_TRAVERSAL))
+            this.seedTraversal = PureTraversal.loadState(configuration, SEED_TRAVERSAL, graph);
         if (configuration.containsKey(EDGE_TRAVERSAL)) {
             this.edgeTraversal = PureTraversal.loadState(configuration, EDGE_TRAVERSAL, graph);
             this.incidentMessageScope = MessageScope.Local.of(() -> this.edgeTraversal.get().clone());
@@ -93,6 +114,7 @@ public class PageRankVertexProgram implements VertexProgram<Double> {
         this.epsilon = configuration.getDouble(EPSILON, this.epsilon);
         this.maxIterations = configuration.getInt(MAX_ITERATIONS, 20);
         this.property = configuration.getString(PROPERTY, PAGE_RANK);
+        this.delta = configuration.getBoolean(DELTA, false);
         this.vertexComputeKeys = new HashSet<>(Arrays.asList(
                 VertexComputeKey.of(this.property, false),
                 VertexComputeKey.of(EDGE_COUNT, true)));
@@ -100,6 +122,10 @@ public class PageRankVertexProgram implements VertexProgram<Double> {
                 MemoryComputeKey.of(TELEPORTATION_ENERGY, Operator.sum, true, true),
                 MemoryComputeKey.of(VERTEX_COUNT, Operator.sum, true, true),
                 MemoryComputeKey.of(CONVERGENCE_ERROR, Operator.sum, false, true)));
+        if (null != this.seedTraversal) {
+            this.vertexComputeKeys.add(VertexComputeKey.of(SEED, true));
+            this.memoryComputeKeys.add(MemoryComputeKey.of(SEED_COUNT, Operator.sum, true, true));
+        }
     }
 
     @Override
@@ -109,10 +135,13 @@ public class PageRankVertexProgram implements VertexProgram<Double> {
         configuration.setProperty(EPSILON, this.epsilon);
         configuration.setProperty(PROPERTY, this.property);
         configuration.setProperty(MAX_ITERATIONS, this.maxIterations);
+        configuration.setProperty(DELTA, this.delta);
         if (null != this.edgeTraversal)
             this.edgeTraversal.storeState(configuration, EDGE_TRAVERSAL);
         if (null != this.initialRankTraversal)
             this.initialRankTraversal.storeState(configuration, INITIAL_RANK_TRAVERSAL);
+        if (null != this.seedTraversal)
+            this.seedTraversal.storeState(configuration, SEED_TRAVERSAL);
     }
 
     @Override
@@ -140,6 +169,11 @@ public class PageRankVertexProgram implements VertexProgram<Double> {
         return this.memoryComputeKeys;
     }
 
+    @Override
+    public boolean isMessageDriven() {
+        return this.delta;
+    }
+
     @Override
     public Set<MessageScope> getMessageScopes(final Memory memory) {
         final Set<MessageScope> set = new HashSet<>();
@@ -153,6 +187,8 @@ public class PageRankVertexProgram implements VertexProgram<Double> {
             final PageRankVertexProgram clone = (PageRankVertexProgram) super.clone();
             if (null != this.initialRankTraversal)
                 clone.initialRankTraversal = this.initialRankTraversal.clone();
+            if (null != this.seedTraversal)
+                clone.seedTraversal = this.seedTraversal.clone();
             return clone;
         } catch (final CloneNotSupportedException e) {
             throw new IllegalStateException(e.getMessage(), e);
@@ -164,6 +200,8 @@ public class PageRankVertexProgram implements VertexProgram<Double> {
         memory.set(TELEPORTATION_ENERGY, null == this.initialRankTraversal ? 1.0d : 0.0d);
         memory.set(VERTEX_COUNT, 0.0d);
         memory.set(CONVERGENCE_ERROR, 1.0d);
+        if (null != this.seedTraversal)
+            memory.set(SEED_COUNT, 0.0d);
     }
 
     @Override
@@ -171,6 +209,14 @@ public class PageRankVertexProgram implements VertexProgram<Double> {
         if (memory.isInitialIteration()) {
             messenger.sendMessage(this.countMessageScope, 1.0d);
             memory.add(VERTEX_COUNT, 1.0d);
+            if (null != this.seedTraversal && TraversalUtil.test(vertex, this.seedTraversal.get())) {
+                vertex.property(VertexProperty.Cardinality.single, SEED, true);
+                memory.add(SEED_COUNT, 1.0d);
+            }
+            // vertices without outgoing edges receive no count messages but must still initialize their rank
+            messenger.keepActive();
+        } else if (this.delta) {
+            executeDelta(vertex, messenger, memory);
         } else {
             final double vertexCount = memory.<Double>get(VERTEX_COUNT);
             final double edgeCount;
@@ -188,7 +234,7 @@ public class PageRankVertexProgram implements VertexProgram<Double> {
             //////////////////////////
             final double teleporationEnergy = memory.get(TELEPORTATION_ENERGY);
             if (teleporationEnergy > 0.0d) {
-                final double localTerminalEnergy = teleporationEnergy / vertexCount;
+                final double localTerminalEnergy = teleporationEnergy * getTeleportationShare(vertex, memory);
                 pageRank = pageRank + localTerminalEnergy;
                 memory.add(TELEPORTATION_ENERGY, -localTerminalEnergy);
             }
@@ -204,6 +250,42 @@ public class PageRankVertexProgram implements VertexProgram<Double> {
         }
     }
 
+    /**
+     * Executes an iteration of delta mode where the incoming messages are the changes in the rank of the neighbors
+     * rather than their ranks.
+     */
+    private void executeDelta(final Vertex vertex, final Messenger<Double> messenger, final Memory memory) {
+        final double edgeCount;
+        final double rank;
+        final double change;
+        if (1 == memory.getIteration()) {
+            edgeCount = IteratorUtils.reduce(messenger.receiveMessages(), 0.0d, (a, b) -> a + b);
+            vertex.property(VertexProperty.Cardinality.single, EDGE_COUNT, edgeCount);
+            change = (1.0d - this.alpha) * (null == this.initialRankTraversal ?
+                    getTeleportationShare(vertex, memory) :
+                    TraversalUtil.apply(vertex, this.initialRankTraversal.get()).doubleValue());
+            rank = change;
+        } else {
+            edgeCount = vertex.value(EDGE_COUNT);
+            change = IteratorUtils.reduce(messenger.receiveMessages(), 0.0d, (a, b) -> a + b);
+            rank = vertex.<Double>value(this.property) + change;
+        }
+        vertex.property(VertexProperty.Cardinality.single, this.property, rank);
+        memory.add(CONVERGENCE_ERROR, Math.abs(change));
+        // holding back the small changes of each vertex bounds their sum to the epsilon
+        if (edgeCount > 0.0d && Math.abs(change) > this.epsilon / memory.<Double>get(VERTEX_COUNT))
+            messenger.sendMessage(this.incidentMessageScope, this.alpha * change / edgeCount);
+    }
+
+    /**
+     * Gets the share of the teleported rank that returns to the vertex.
+     */
+    private double getTeleportationShare(final Vertex vertex, final Memory memory) {
+        if (null == this.seedTraversal)
+            return 1.0d / memory.<Double>get(VERTEX_COUNT);
+        return vertex.property(SEED).isPresent() ? 1.0d / memory.<Double>get(SEED_COUNT) : 0.0d;
+    }
+
     @Override
     public boolean terminate(final Memory memory) {
         boolean terminate = memory.<Double>get(CONVERGENCE_ERROR) < this.epsilon || memory.getIteration() >= this.maxIterations;
@@ -258,6 +340,22 @@ public class PageRankVertexProgram implements VertexProgram<Double> {
             return this;
         }
 
+        /**
+         * Determines if only the changes in rank are propagated so that converged vertices are no longer executed.
+         */
+        public Builder delta(final boolean delta) {
+            this.configuration.setProperty(DELTA, delta);
+            return this;
+        }
+
+        /**
+         * Personalizes the PageRank by only teleporting to the vertices for which the traversal yields a result.
+         */
+        public Builder seeds(final Traversal.Admin<Vertex, ?> seedTraversal) {
+            PureTraversal.storeState(this.configuration, SEED_TRAVERSAL, seedTraversal);
+            return this;
+        }
+
         /**
          * @deprecated As of release 3.2.0, replaced by {@link org.apache.tinkerpop.gremlin.process.computer.ranking.pagerank.PageRankVertexProgram.Builder#initialRank(Traversal.Admin)}
          */
@@ -0,0 +1,105 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.tinkerpop.gremlin.util;
+
+import java.lang.reflect.Method;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Utility methods for working with virtual threads. TinkerPop compiles against Java 8 so virtual threads are
+ * accessed reflectively and are only available when the code is running on a JVM that supports them (i.e. Java 21
+ * and newer). Callers should treat an empty result as a signal to fall back to a platform thread pool.
+ *
+ * @author Stephen Mallette (http://stephen.genoprime.com)
+ */
+public final class VirtualThreadUtil {
+
+    private static final Method OF_VIRTUAL;
+    private static final Method BUILDER_NAME;
+    private static final Method BUILDER_FACTORY;
+    private static final Method NEW_THREAD_PER_TASK_EXECUTOR;
+
+    static {
+        Method ofVirtual = null;
+        Method builderName = null;
+        Method builderFactory = null;
+        Method newThreadPerTaskExecutor = null;
+        try {
+            final Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+            ofVirtual = Thread.class.getMethod("ofVirtual");
+            builderName = builderClass.getMethod("name", String.class, long.class);
+            builderFactory = builderClass.getMethod("factory");
+            newThreadPerTaskExecutor = Executors.class.getMethod("newThreadPerTaskExecutor", ThreadFactory.class);
+        } catch (Exception ignored) {
+            // virtual threads are not available on this JVM
+            ofVirtual = null;
+        }
+
+        OF_VIRTUAL = ofVirtual;
+        BUILDER_NAME = builderName;
+        BUILDER_FACTORY = builderFactory;
+        NEW_THREAD_PER_TASK_EXECUTOR = newThreadPerTaskExecutor;
+    }
+
+    private VirtualThreadUtil() {
+    }
+
+    /**
+     * Determines if the current JVM is capable of creating virtual threads.
+     */
+    public static boolean isSupported() {
+        return OF_VIRTUAL != null;
+    }
+
+    /**
+     * Creates a {@code ThreadFactory} that produces virtual threads named with the supplied prefix followed by a
+     * counter. Returns empty if virtual threads are not supported by the JVM.
+     *
+     * @param prefix the prefix for the name of each thread created by the factory
+     */
+    public static Optional<ThreadFactory> createThreadFactory(final String prefix) {
+        if (!isSupported()) return Optional.empty();
+
+        try {
+            final Object builder = BUILDER_NAME.invoke(OF_VIRTUAL.invoke(null), prefix, 0L);
+            return Optional.of((ThreadFactory) BUILDER_FACTORY.invoke(builder));
+        } catch (Exception ex) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Creates an {@code ExecutorService} that starts a new virtual thread for each submitted task. Returns empty if
+     * virtual threads are not supported by the JVM.
+     *
+     * @param prefix the prefix for the name of each thread created by the executor
+     */
+    public static Optional<ExecutorService> createThreadPerTaskExecutor(final String prefix) {
+        return createThreadFactory(prefix).flatMap(factory -> {
+            try {
+                return Optional.of((ExecutorService) NEW_THREAD_PER_TASK_EXECUTOR.invoke(null, factory));
+            } catch (Exception ex) {
+                return Optional.empty();
+            }
+        });
+    }
+}
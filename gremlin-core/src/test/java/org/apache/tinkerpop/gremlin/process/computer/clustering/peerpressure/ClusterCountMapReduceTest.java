@@ -0,0 +1,60 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.computer.clustering.peerpressure;
+
+import org.apache.tinkerpop.gremlin.process.computer.MapReduce;
+import org.junit.Test;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.BinaryOperator;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * @author Stephen Mallette (http://stephen.genoprime.com)
+ */
+public class ClusterCountMapReduceTest {
+
+    @Test
+    public void shouldReduceMergedValuesLikeEmittedValues() {
+        final ClusterCountMapReduce mapReduce = ClusterCountMapReduce.build().create();
+        final BinaryOperator<Serializable> operator = mapReduce.getReduceOperator().get();
+        final List<Serializable> clusters = Arrays.asList(1L, 2L, 1L, 3L, 2L, 4L);
+
+        // merge the values as two partitions would before they are shuffled
+        final Serializable left = operator.apply(operator.apply(clusters.get(0), clusters.get(1)), clusters.get(2));
+        final Serializable right = operator.apply(operator.apply(clusters.get(3), clusters.get(4)), clusters.get(5));
+
+        assertEquals(4, reduce(mapReduce, clusters).intValue());
+        assertEquals(4, reduce(mapReduce, Collections.singletonList(operator.apply(left, right))).intValue());
+        assertEquals(4, reduce(mapReduce, Arrays.asList(left, right)).intValue());
+        assertEquals(1, reduce(mapReduce, Collections.singletonList(5L)).intValue());
+    }
+
+    private static Integer reduce(final ClusterCountMapReduce mapReduce, final List<Serializable> values) {
+        final List<Integer> counts = new ArrayList<>();
+        mapReduce.reduce(MapReduce.NullObject.instance(), values.iterator(), (key, value) -> counts.add(value));
+        assertEquals(1, counts.size());
+        return counts.get(0);
+    }
+}
@@ -0,0 +1,56 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.tinkerpop.gremlin.util;
+
+import org.junit.Test;
+
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.startsWith;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author Stephen Mallette (http://stephen.genoprime.com)
+ */
+public class VirtualThreadUtilTest {
+
+    @Test
+    public void shouldOnlyCreateThreadFactoryWhenSupported() {
+        final Optional<ThreadFactory> factory = VirtualThreadUtil.createThreadFactory("test-");
+        assertEquals(VirtualThreadUtil.isSupported(), factory.isPresent());
+        factory.ifPresent(f -> assertThat(f.newThread(() -> {}).getName(), startsWith("test-")));
+    }
+
+    @Test
+    public void shouldOnlyCreateExecutorWhenSupported() throws Exception {
+        final Optional<ExecutorService> executor = VirtualThreadUtil.createThreadPerTaskExecutor("test-");
+        assertEquals(VirtualThreadUtil.isSupported(), executor.isPresent());
+        if (executor.isPresent()) {
+            final ExecutorService es = executor.get();
+            assertThat(es.submit(() -> Thread.currentThread().getName()).get(), startsWith("test-"));
+            es.shutdown();
+            assertTrue(es.awaitTermination(1000, TimeUnit.MILLISECONDS));
+        }
+    }
+}
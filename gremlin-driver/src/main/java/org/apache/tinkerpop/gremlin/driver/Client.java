@@ -19,15 +19,19 @@
 package org.apache.tinkerpop.gremlin.driver;
 
 import org.apache.tinkerpop.gremlin.driver.exception.ConnectionException;
+import org.apache.tinkerpop.gremlin.driver.exception.ResponseException;
 import org.apache.tinkerpop.gremlin.driver.message.RequestMessage;
+import org.apache.tinkerpop.gremlin.driver.message.ResponseStatusCode;
 import org.apache.tinkerpop.gremlin.process.traversal.Bytecode;
 import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
 import org.apache.tinkerpop.gremlin.process.traversal.TraversalSource;
 import org.apache.tinkerpop.gremlin.structure.Graph;
 import org.apache.tinkerpop.gremlin.util.iterator.IteratorUtils;
+import org.javatuples.Pair;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
@@ -38,6 +42,8 @@ import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicReference;
@@ -108,6 +114,29 @@ public abstract class Client {
         return new AliasClusteredClient(this, aliases, settings);
     }
 
+    /**
+     * Creates a {@code Client} that coalesces {@link Traversal} and {@link Bytecode} submissions made within the
+     * {@code batchWindow} into a single request to the server. See {@link BatchingClient} for details.
+     *
+     * @param batchWindow the number of milliseconds to wait for more traversals after the first one of a batch
+     * @param maxBatchSize the number of traversals that sends a batch immediately
+     */
+    public Client batch(final long batchWindow, final int maxBatchSize) {
+        return batch(batchWindow, maxBatchSize, false);
+    }
+
+    /**
+     * Creates a {@code Client} that coalesces {@link Traversal} and {@link Bytecode} submissions made within the
+     * {@code batchWindow} into a single request to the server. See {@link BatchingClient} for details.
+     *
+     * @param batchWindow the number of milliseconds to wait for more traversals after the first one of a batch
+     * @param maxBatchSize the number of traversals that sends a batch immediately
+     * @param parallel determines if the server should execute the traversals of a batch in parallel
+     */
+    public Client batch(final long batchWindow, final int maxBatchSize, final boolean parallel) {
+        return new BatchingClient(this, batchWindow, maxBatchSize, parallel, settings);
+    }
+
     /**
      * Submit a {@link Traversal} to the server for remote execution.
      */
@@ -594,6 +623,215 @@ public abstract class Client {
         }
     }
 
+    /**
+     * A {@code Client} that coalesces {@link Bytecode} submitted from many threads into a single "batch" request so
+     * that chatty workloads of many small traversals pay for one network round-trip rather than one per traversal.
+     * The first traversal of a batch waits at most {@code batchWindow} milliseconds for others to join it and a
+     * batch is sent immediately once it holds {@code maxBatchSize} traversals. The server answers with one result
+     * per traversal which is routed back to the {@link ResultSet} of the caller that submitted it, so an error in
+     * one traversal only fails that caller.
+     * <p/>
+     * Scripts and manually constructed {@link RequestMessage} instances are passed directly to the underlying
+     * {@code Client}. The underlying {@code Client} should be aliased to a {@link TraversalSource}. Side-effects of
+     * batched traversals are not retained on the server.
+     */
+    public static class BatchingClient extends Client {
+        private final Client client;
+        private final long batchWindow;
+        private final int maxBatchSize;
+        private final boolean parallel;
+        private final List<Pair<Bytecode, CompletableFuture<ResultSet>>> pending = new ArrayList<>();
+        private ScheduledFuture<?> scheduledFlush = null;
+        final CompletableFuture<Void> close = new CompletableFuture<>();
+
+        BatchingClient(final Client client, final long batchWindow, final int maxBatchSize, final boolean parallel,
+                       final Client.Settings settings) {
+            super(client.cluster, settings);
+            if (batchWindow < 0) throw new IllegalArgumentException("batchWindow must be zero or greater");
+            if (maxBatchSize < 1) throw new IllegalArgumentException("maxBatchSize must be greater than zero");
+
+            this.client = client;
+            this.batchWindow = batchWindow;
+            this.maxBatchSize = maxBatchSize;
+            this.parallel = parallel;
+        }
+
+        @Override
+        public CompletableFuture<ResultSet> submitAsync(final Bytecode bytecode) {
+            if (close.isDone()) throw new IllegalStateException("Client is closed");
+
+            final CompletableFuture<ResultSet> future = new CompletableFuture<>();
+            final List<Pair<Bytecode, CompletableFuture<ResultSet>>> batch;
+            synchronized (pending) {
+                pending.add(Pair.with(bytecode, future));
+                if (pending.size() >= maxBatchSize) {
+                    batch = drainPending();
+                } else {
+                    batch = null;
+                    if (pending.size() == 1)
+                        scheduledFlush = cluster.executor().schedule(this::flush, batchWindow, TimeUnit.MILLISECONDS);
+                }
+            }
+
+            if (batch != null) send(batch);
+            return future;
+        }
+
+        @Override
+        public CompletableFuture<ResultSet> submitAsync(final Traversal traversal) {
+            return submitAsync(traversal.asAdmin().getBytecode());
+        }
+
+        @Override
+        public CompletableFuture<ResultSet> submitAsync(final RequestMessage msg) {
+            if (close.isDone()) throw new IllegalStateException("Client is closed");
+            return client.submitAsync(msg);
+        }
+
+        /**
+         * Sends any traversals waiting for their batch window to expire.
+         */
+        public void flush() {
+            final List<Pair<Bytecode, CompletableFuture<ResultSet>>> batch;
+            synchronized (pending) {
+                batch = drainPending();
+            }
+
+            if (!batch.isEmpty()) send(batch);
+        }
+
+        private List<Pair<Bytecode, CompletableFuture<ResultSet>>> drainPending() {
+            if (scheduledFlush != null) {
+                scheduledFlush.cancel(false);
+                scheduledFlush = null;
+            }
+
+            final List<Pair<Bytecode, CompletableFuture<ResultSet>>> batch = new ArrayList<>(pending);
+            pending.clear();
+            return batch;
+        }
+
+        private void send(final List<Pair<Bytecode, CompletableFuture<ResultSet>>> batch) {
+            try {
+                // a batch of one gains nothing from the batch op so just send it as a standard traversal
+                if (batch.size() == 1) {
+                    final CompletableFuture<ResultSet> future = batch.get(0).getValue1();
+                    client.submitAsync(batch.get(0).getValue0()).whenComplete((rs, t) -> {
+                        if (t != null)
+                            future.completeExceptionally(t);
+                        else
+                            future.complete(rs);
+                    });
+                    return;
+                }
+
+                final RequestMessage.Builder builder = RequestMessage.build(Tokens.OPS_BATCH).processor("traversal")
+                        .addArg(Tokens.ARGS_GREMLIN, batch.stream().map(Pair::getValue0).collect(Collectors.toList()));
+                if (parallel) builder.addArg(Tokens.ARGS_PARALLEL, true);
+                final RequestMessage msg = client.buildMessage(builder).create();
+
+                client.submitAsync(msg).whenComplete((rs, t) -> {
+                    if (t != null)
+                        batch.forEach(p -> p.getValue1().completeExceptionally(t));
+                    else
+                        rs.all().whenComplete((results, t2) -> {
+                            if (t2 != null)
+                                batch.forEach(p -> p.getValue1().completeExceptionally(t2));
+                            else
+                                completeBatch(batch, results, msg, rs.getHost());
+                        });
+                });
+            } catch (Exception ex) {
+                batch.forEach(p -> p.getValue1().completeExceptionally(ex));
+            }
+        }
+
+        private void completeBatch(final List<Pair<Bytecode, CompletableFuture<ResultSet>>> batch,
+                                   final List<Result> results, final RequestMessage msg, final Host host) {
+            final boolean[] answered = new boolean[batch.size()];
+            for (Result result : results) {
+                final Map<String, Object> item = result.get(Map.class);
+                final int index = ((Number) item.get(Tokens.VAL_BATCH_INDEX)).intValue();
+
+                final CompletableFuture<Void> readCompleted = new CompletableFuture<>();
+                final ResultQueue queue = new ResultQueue(new LinkedBlockingQueue<>(), readCompleted);
+                if (item.containsKey(Tokens.VAL_BATCH_ERROR)) {
+                    queue.markError(new ResponseException(ResponseStatusCode.SERVER_ERROR,
+                            String.valueOf(item.get(Tokens.VAL_BATCH_ERROR))));
+                } else {
+                    ((List<?>) item.get(Tokens.VAL_BATCH_RESULT)).forEach(o -> queue.add(new Result(o)));
+                    queue.markComplete();
+                }
+
+                answered[index] = true;
+                batch.get(index).getValue1().complete(new ResultSet(queue, cluster.executor(), readCompleted, msg, host));
+            }
+
+            for (int ix = 0; ix < answered.length; ix++) {
+                if (!answered[ix])
+                    batch.get(ix).getValue1().completeExceptionally(new ResponseException(ResponseStatusCode.SERVER_ERROR,
+                            String.format("No result was returned for traversal %s of the batch", ix)));
+            }
+        }
+
+        @Override
+        public synchronized Client init() {
+            if (close.isDone()) throw new IllegalStateException("Client is closed");
+
+            // the underlying client may not have been init'd
+            client.init();
+
+            return this;
+        }
+
+        @Override
+        public RequestMessage.Builder buildMessage(final RequestMessage.Builder builder) {
+            if (close.isDone()) throw new IllegalStateException("Client is closed");
+            return client.buildMessage(builder);
+        }
+
+        @Override
+        protected void initializeImplementation() {
+            // no init required
+            if (close.isDone()) throw new IllegalStateException("Client is closed");
+        }
+
+        /**
+         * Delegates to the underlying {@code Client}.
+         */
+        @Override
+        protected Connection chooseConnection(final RequestMessage msg) throws TimeoutException, ConnectionException {
+            if (close.isDone()) throw new IllegalStateException("Client is closed");
+            return client.chooseConnection(msg);
+        }
+
+        /**
+         * Sends any waiting traversals and prevents further messages from being sent from this {@code Client}. Note
+         * that calling this method does not call close on the {@code Client} that created it.
+         */
+        @Override
+        public synchronized CompletableFuture<Void> closeAsync() {
+            if (!close.isDone()) flush();
+            close.complete(null);
+            return close;
+        }
+
+        @Override
+        public boolean isClosing() {
+            return close.isDone();
+        }
+
+        /**
+         * Creates a {@code BatchingClient} with the same batching configuration over an aliased form of the
+         * underlying {@code Client}.
+         */
+        @Override
+        public Client alias(final Map<String, String> aliases) {
+            if (close.isDone()) throw new IllegalStateException("Client is closed");
+            return new BatchingClient(client.alias(aliases), batchWindow, maxBatchSize, parallel, settings);
+        }
+    }
+
     /**
      * A {@code Client} implementation that operates in the context of a session.  Requests are sent to a single
      * server, where each request is bound to the same thread with the same set of bindings across requests.
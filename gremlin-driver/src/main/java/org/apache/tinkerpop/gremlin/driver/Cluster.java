@@ -183,6 +183,7 @@ public final class Cluster {
                 .minInProcessPerConnection(settings.connectionPool.minInProcessPerConnection)
                 .maxSimultaneousUsagePerConnection(settings.connectionPool.maxSimultaneousUsagePerConnection)
                 .minSimultaneousUsagePerConnection(settings.connectionPool.minSimultaneousUsagePerConnection)
+                .pipelineRequests(settings.connectionPool.pipelineRequests)
                 .maxConnectionPoolSize(settings.connectionPool.maxSize)
                 .minConnectionPoolSize(settings.connectionPool.minSize);
 
@@ -314,6 +315,14 @@ public final class Cluster {
         return manager.connectionPoolSettings.maxInProcessPerConnection;
     }
 
+    /**
+     * Determines if requests are pipelined over a {@link Connection} without regard to the number of in-flight
+     * requests.
+     */
+    public boolean isPipelineRequests() {
+        return manager.connectionPoolSettings.pipelineRequests;
+    }
+
     /**
      * Gets the maximum number of times that a {@link Connection} can be borrowed from the pool simultaneously.
      */
@@ -478,6 +487,7 @@ public final class Cluster {
         private int maxSimultaneousUsagePerConnection = ConnectionPool.MAX_SIMULTANEOUS_USAGE_PER_CONNECTION;
         private int maxInProcessPerConnection = Connection.MAX_IN_PROCESS;
         private int minInProcessPerConnection = Connection.MIN_IN_PROCESS;
+        private boolean pipelineRequests = false;
         private int maxWaitForConnection = Connection.MAX_WAIT_FOR_CONNECTION;
         private int maxWaitForSessionClose = Connection.MAX_WAIT_FOR_SESSION_CLOSE;
         private int maxContentLength = Connection.MAX_CONTENT_LENGTH;
@@ -632,6 +642,20 @@ public final class Cluster {
             return this;
         }
 
+        /**
+         * Determines if requests should be pipelined over a {@link Connection} without limit. Responses are already
+         * matched to their requests by request identifier, so a single {@link Connection} can have any number of
+         * requests in flight. When enabled, the {@link #maxInProcessPerConnection} and
+         * {@link #minInProcessPerConnection} settings are ignored and a {@link Connection} is chosen from the
+         * {@link ConnectionPool} by comparing the usage of two randomly selected connections rather than by scanning
+         * the whole pool, which reduces contention when many threads submit requests through the same
+         * {@link Client}.
+         */
+        public Builder pipelineRequests(final boolean pipelineRequests) {
+            this.pipelineRequests = pipelineRequests;
+            return this;
+        }
+
         /**
          * The maximum number of times that a {@link Connection} can be borrowed from the pool simultaneously.
          * This represents an indication of how busy a {@link Connection} is allowed to be.  Set too large and the
@@ -868,6 +892,7 @@ public final class Cluster {
             connectionPoolSettings.minInProcessPerConnection = builder.minInProcessPerConnection;
             connectionPoolSettings.maxSimultaneousUsagePerConnection = builder.maxSimultaneousUsagePerConnection;
             connectionPoolSettings.minSimultaneousUsagePerConnection = builder.minSimultaneousUsagePerConnection;
+            connectionPoolSettings.pipelineRequests = builder.pipelineRequests;
             connectionPoolSettings.maxSize = builder.maxConnectionPoolSize;
             connectionPoolSettings.minSize = builder.minConnectionPoolSize;
             connectionPoolSettings.maxWaitForConnection = builder.maxWaitForConnection;
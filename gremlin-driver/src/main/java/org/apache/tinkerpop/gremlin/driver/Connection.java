@@ -88,6 +88,11 @@ final class Connection {
     private final AtomicBoolean shutdownInitiated = new AtomicBoolean(false);
     private final AtomicReference<ScheduledFuture> keepAliveFuture = new AtomicReference<>();
 
+    /**
+     * The number of {@link ResultQueue} instances that have asked for reads from the channel to pause.
+     */
+    private int pausedReads = 0;
+
     public Connection(final URI uri, final ConnectionPool pool, final int maxInProcess) throws ConnectionException {
         this.uri = uri;
         this.cluster = pool.getCluster();
@@ -134,6 +139,24 @@ final class Connection {
         return isDead;
     }
 
+    /**
+     * Stops reading from the channel until a matching call to {@link #resumeReading()}. As the server stops
+     * iterating results when the channel is no longer writable, this slows the server down to the pace of the
+     * client. Note that all requests on this {@code Connection} stop receiving results while reads are paused.
+     */
+    synchronized void pauseReading() {
+        if (pausedReads++ == 0 && channel != null)
+            channel.config().setAutoRead(false);
+    }
+
+    /**
+     * Resumes reading from the channel once every call to {@link #pauseReading()} has been matched.
+     */
+    synchronized void resumeReading() {
+        if (pausedReads > 0 && --pausedReads == 0 && channel != null)
+            channel.config().setAutoRead(true);
+    }
+
     boolean isClosing() {
         return closeFuture.get() != null;
     }
@@ -195,6 +218,8 @@ final class Connection {
         // once there is a completed write, then create a traverser for the result set and complete
         // the promise so that the client knows that that it can start checking for results.
         final Connection thisConnection = this;
+        final LoadBalancingStrategy loadBalancingStrategy = cluster.loadBalancingStrategy();
+        final long start = System.nanoTime();
 
         final ChannelPromise requestPromise = channel.newPromise()
                 .addListener(f -> {
@@ -208,6 +233,12 @@ final class Connection {
                         final LinkedBlockingQueue<Result> resultLinkedBlockingQueue = new LinkedBlockingQueue<>();
                         final CompletableFuture<Void> readCompleted = new CompletableFuture<>();
 
+                        // let the load balancer know about the request so that it can track how busy the host is
+                        // and how long it takes to respond
+                        loadBalancingStrategy.onRequestSent(pool.host);
+                        readCompleted.whenComplete((v, t) ->
+                                loadBalancingStrategy.onRequestCompleted(pool.host, System.nanoTime() - start));
+
                         // the callback for when the read was successful, meaning that ResultQueue.markComplete()
                         // was called
                         readCompleted.thenAcceptAsync(v -> {
@@ -243,7 +274,7 @@ final class Connection {
                             return null;
                         });
 
-                        final ResultQueue handler = new ResultQueue(resultLinkedBlockingQueue, readCompleted);
+                        final ResultQueue handler = new ResultQueue(resultLinkedBlockingQueue, readCompleted, thisConnection);
                         pending.put(requestMessage.getRequestId(), handler);
                         cluster.executor().submit(() -> future.complete(
                                 new ResultSet(handler, cluster.executor(), readCompleted, requestMessage, pool.host)));
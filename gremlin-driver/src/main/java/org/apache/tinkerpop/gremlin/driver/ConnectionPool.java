@@ -32,6 +32,7 @@ import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.CopyOnWriteArraySet;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
@@ -61,6 +62,8 @@ final class ConnectionPool {
     private final int minSimultaneousUsagePerConnection;
     private final int maxSimultaneousUsagePerConnection;
     private final int minInProcess;
+    private final int maxInProcess;
+    private final boolean pipelineRequests;
     private final String poolLabel;
 
     private final AtomicInteger scheduledForCreation = new AtomicInteger();
@@ -88,12 +91,16 @@ final class ConnectionPool {
         this.minSimultaneousUsagePerConnection = settings.minSimultaneousUsagePerConnection;
         this.maxSimultaneousUsagePerConnection = settings.maxSimultaneousUsagePerConnection;
         this.minInProcess = settings.minInProcessPerConnection;
+        this.pipelineRequests = settings.pipelineRequests;
+
+        // when pipelining, a connection never runs out of in-process capacity so requests do not wait on one
+        this.maxInProcess = pipelineRequests ? Integer.MAX_VALUE : settings.maxInProcessPerConnection;
 
         this.connections = new CopyOnWriteArrayList<>();
 
         try {
             for (int i = 0; i < minPoolSize; i++)
-                this.connections.add(new Connection(host.getHostUri(), this, settings.maxInProcessPerConnection));
+                this.connections.add(new Connection(host.getHostUri(), this, maxInProcess));
         } catch (ConnectionException ce) {
             // ok if we don't get it initialized here - when a request is attempted in a connection from the
             // pool it will try to create new connections as needed.
@@ -115,7 +122,7 @@ final class ConnectionPool {
 
         if (isClosed()) throw new ConnectionException(host.getHostUri(), host.getAddress(), "Pool is shutdown");
 
-        final Connection leastUsedConn = selectLeastUsed();
+        final Connection leastUsedConn = pipelineRequests ? selectLessUsedOfTwo() : selectLeastUsed();
 
         if (connections.isEmpty()) {
             logger.debug("Tried to borrow connection but the pool was empty for {} - scheduling pool creation and waiting for connection", host);
@@ -148,6 +155,14 @@ final class ConnectionPool {
             considerNewConnection();
         }
 
+        // pipelined connections have no in-process limit so there is no need to check capacity before borrowing
+        if (pipelineRequests) {
+            leastUsedConn.borrowed.incrementAndGet();
+            if (logger.isDebugEnabled())
+                logger.debug("Return pipelined {} on {}", leastUsedConn.getConnectionInfo(), host);
+            return leastUsedConn;
+        }
+
         while (true) {
             final int borrowed = leastUsedConn.borrowed.get();
             final int availableInProcess = leastUsedConn.availableInProcess();
@@ -289,7 +304,7 @@ final class ConnectionPool {
         }
 
         try {
-            connections.add(new Connection(host.getHostUri(), this, settings().maxInProcessPerConnection));
+            connections.add(new Connection(host.getHostUri(), this, maxInProcess));
         } catch (ConnectionException ce) {
             logger.debug("Connections were under max, but there was an error creating the connection.", ce);
             open.decrementAndGet();
@@ -442,6 +457,27 @@ final class ConnectionPool {
         return leastBusy;
     }
 
+    /**
+     * Selects a {@link Connection} by taking two at random and choosing the one with fewer borrows. This avoids
+     * scanning every {@link Connection} in the pool on each borrow while still spreading load fairly evenly.
+     */
+    private Connection selectLessUsedOfTwo() {
+        final Object[] snapshot = connections.toArray();
+        if (snapshot.length < 3) return selectLeastUsed();
+
+        final ThreadLocalRandom random = ThreadLocalRandom.current();
+        final int first = random.nextInt(snapshot.length);
+        int second = random.nextInt(snapshot.length - 1);
+        if (second >= first) second++;
+
+        final Connection a = (Connection) snapshot[first];
+        final Connection b = (Connection) snapshot[second];
+        if (a.isDead() || b.isDead())
+            return a.isDead() && b.isDead() ? selectLeastUsed() : (a.isDead() ? b : a);
+
+        return a.borrowed.get() <= b.borrowed.get() ? a : b;
+    }
+
     private void awaitAvailableConnection(long timeout, TimeUnit unit) throws InterruptedException {
         logger.debug("Wait {} {} for an available connection on {} with {}", timeout, unit, host, Thread.currentThread());
 
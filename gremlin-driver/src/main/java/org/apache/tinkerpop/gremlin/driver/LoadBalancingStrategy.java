@@ -22,10 +22,17 @@ import org.apache.tinkerpop.gremlin.driver.message.RequestMessage;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 
 /**
@@ -45,6 +52,21 @@ public interface LoadBalancingStrategy extends Host.Listener {
      */
     public Iterator<Host> select(final RequestMessage msg);
 
+    /**
+     * Called when a request was successfully written to the {@link Host}. By default this method does nothing.
+     */
+    public default void onRequestSent(final Host host) {
+    }
+
+    /**
+     * Called when the response to a request sent to the {@link Host} has been fully read, either successfully or
+     * with an error. By default this method does nothing.
+     *
+     * @param latencyNanos the time in nanoseconds between writing the request and reading the end of the response
+     */
+    public default void onRequestCompleted(final Host host, final long latencyNanos) {
+    }
+
     /**
      * A simple round-robin strategy that simply selects the next host in the {@link Cluster} to send the
      * {@link RequestMessage} to.
@@ -116,4 +138,134 @@ public interface LoadBalancingStrategy extends Host.Listener {
             onUnavailable(host);
         }
     }
+
+    /**
+     * A strategy that prefers the least loaded {@link Host} where load is the exponentially weighted moving average
+     * (EWMA) of response latency multiplied by the number of requests currently in flight to that {@link Host}. The
+     * average follows the "peak EWMA" approach, in that a latency higher than the current average replaces it
+     * immediately while lower latencies are only blended in over the decay time. A {@link Host} that starts to
+     * respond slowly, perhaps because of a garbage collection pause, is therefore avoided quickly and is brought back
+     * gradually once it recovers.
+     * <p/>
+     * Hosts that have not yet received requests have no load and are preferred, which allows new hosts to be tried.
+     * Ties are broken at random so that hosts with equal load share requests.
+     */
+    public static class LatencyAware implements LoadBalancingStrategy {
+
+        /**
+         * The default time in milliseconds over which older latency observations decay.
+         */
+        public static final long DEFAULT_DECAY_TIME = 10000;
+
+        private final CopyOnWriteArrayList<Host> availableHosts = new CopyOnWriteArrayList<>();
+        private final Map<Host, HostLoad> loads = new ConcurrentHashMap<>();
+        private final long decayTimeNanos;
+
+        public LatencyAware() {
+            this(DEFAULT_DECAY_TIME);
+        }
+
+        /**
+         * @param decayTime the time in milliseconds over which older latency observations decay
+         */
+        public LatencyAware(final long decayTime) {
+            if (decayTime <= 0)
+                throw new IllegalArgumentException("decayTime must be greater than zero");
+            this.decayTimeNanos = TimeUnit.MILLISECONDS.toNanos(decayTime);
+        }
+
+        @Override
+        public void initialize(final Cluster cluster, final Collection<Host> hosts) {
+            this.availableHosts.addAll(hosts);
+        }
+
+        @Override
+        public Iterator<Host> select(final RequestMessage msg) {
+            final List<Host> hosts = new ArrayList<>();
+
+            // a host could be marked as dead in which case we dont need to send messages to it - just skip it for
+            // now. it might come back online later
+            availableHosts.iterator().forEachRemaining(host -> {
+                if (host.isAvailable()) hosts.add(host);
+            });
+
+            // shuffle first so that the sort, which is stable, breaks ties at random
+            final long now = System.nanoTime();
+            final Map<Host, Double> costs = new HashMap<>(hosts.size());
+            hosts.forEach(host -> costs.put(host, getCost(host, now)));
+            Collections.shuffle(hosts, ThreadLocalRandom.current());
+            hosts.sort(Comparator.comparingDouble(costs::get));
+
+            return hosts.iterator();
+        }
+
+        /**
+         * Gets the current load of the {@link Host} which is used to order it among the other available hosts.
+         */
+        public double getCost(final Host host) {
+            return getCost(host, System.nanoTime());
+        }
+
+        private double getCost(final Host host, final long now) {
+            final HostLoad load = loads.get(host);
+            return null == load ? 0d : load.cost(now, decayTimeNanos);
+        }
+
+        @Override
+        public void onRequestSent(final Host host) {
+            loads.computeIfAbsent(host, h -> new HostLoad()).inFlight.incrementAndGet();
+        }
+
+        @Override
+        public void onRequestCompleted(final Host host, final long latencyNanos) {
+            final HostLoad load = loads.computeIfAbsent(host, h -> new HostLoad());
+            load.inFlight.decrementAndGet();
+            load.observe(latencyNanos, System.nanoTime(), decayTimeNanos);
+        }
+
+        @Override
+        public void onAvailable(final Host host) {
+            this.availableHosts.addIfAbsent(host);
+        }
+
+        @Override
+        public void onUnavailable(final Host host) {
+            this.availableHosts.remove(host);
+
+            // whatever was learned about the host is likely stale by the time it comes back
+            this.loads.remove(host);
+        }
+
+        @Override
+        public void onNew(final Host host) {
+            onAvailable(host);
+        }
+
+        @Override
+        public void onRemove(final Host host) {
+            onUnavailable(host);
+        }
+
+        private static final class HostLoad {
+            private final AtomicInteger inFlight = new AtomicInteger();
+            private double ewma = 0d;
+            private long lastObserved = System.nanoTime();
+
+            synchronized void observe(final long latencyNanos, final long now, final long decayTimeNanos) {
+                if (latencyNanos > ewma) {
+                    ewma = latencyNanos;
+                } else {
+                    final double w = Math.exp(-Math.max(0, now - lastObserved) / (double) decayTimeNanos);
+                    ewma = ewma * w + latencyNanos * (1d - w);
+                }
+                lastObserved = now;
+            }
+
+            synchronized double cost(final long now, final long decayTimeNanos) {
+                // an idle host slowly forgets its latency so that it gets tried again
+                final double w = Math.exp(-Math.max(0, now - lastObserved) / (double) decayTimeNanos);
+                return ewma * w * (Math.max(0, inFlight.get()) + 1);
+            }
+        }
+    }
 }
@@ -0,0 +1,239 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.driver;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * Publishes the items of a {@link ResultSet} to a {@link Subscriber} as the subscriber signals demand for them, so
+ * that results can be consumed without blocking a thread and without holding the entire result in memory. The
+ * {@link Subscriber} and {@link Subscription} interfaces follow the same contract as those of Reactive Streams and
+ * can be adapted to that API (or to {@code java.util.concurrent.Flow} in Java 9 and later) with a simple delegate.
+ * <p/>
+ * Results are delivered on the driver's executor and never on the thread that reads from the network. When more
+ * than the configured maximum number of results are buffered on the client without demand for them, reads on the
+ * underlying {@link Connection} are paused which in turn causes Gremlin Server to pause its iteration of the result.
+ * Note that pausing reads affects any other requests that share that {@link Connection}.
+ * <p/>
+ * A {@code ResultPublisher} only supports a single {@link Subscriber} as a {@link ResultSet} is a forward-only
+ * stream. Cancelling a {@link Subscription} stops delivery and discards remaining results as they arrive, but it
+ * does not stop the server from completing the request.
+ *
+ * @author Stephen Mallette (http://stephen.genoprime.com)
+ */
+public final class ResultPublisher<T> {
+
+    /**
+     * The default number of results that may be buffered on the client before reads from the server are paused.
+     */
+    public static final int DEFAULT_MAX_BUFFERED = 256;
+
+    private final ResultQueue resultQueue;
+    private final Executor executor;
+    private final Function<Result, T> mapper;
+    private final int maxBuffered;
+    private final AtomicBoolean subscribed = new AtomicBoolean(false);
+
+    ResultPublisher(final ResultQueue resultQueue, final Executor executor, final Function<Result, T> mapper,
+                    final int maxBuffered) {
+        if (maxBuffered < 1)
+            throw new IllegalArgumentException("maxBuffered must be greater than zero");
+
+        this.resultQueue = resultQueue;
+        this.executor = executor;
+        this.mapper = mapper;
+        this.maxBuffered = maxBuffered;
+    }
+
+    /**
+     * Subscribes to the results. Results will not be delivered until the {@link Subscriber} requests them through
+     * the {@link Subscription} it is given in {@link Subscriber#onSubscribe(Subscription)}.
+     */
+    public void subscribe(final Subscriber<? super T> subscriber) {
+        if (null == subscriber) throw new NullPointerException("subscriber cannot be null");
+
+        if (!subscribed.compareAndSet(false, true)) {
+            subscriber.onSubscribe(CancelledSubscription.INSTANCE);
+            subscriber.onError(new IllegalStateException("A ResultPublisher only supports a single Subscriber"));
+            return;
+        }
+
+        final ResultSubscription subscription = new ResultSubscription(subscriber);
+        subscriber.onSubscribe(subscription);
+        resultQueue.setListener(subscription::schedule);
+    }
+
+    /**
+     * Receives results from a {@link ResultPublisher}.
+     */
+    public interface Subscriber<T> {
+
+        /**
+         * Called once before any other method with the {@link Subscription} used to request results.
+         */
+        public void onSubscribe(final Subscription subscription);
+
+        /**
+         * Called for each result, no more times than the total requested through the {@link Subscription}.
+         */
+        public void onNext(final T item);
+
+        /**
+         * Called at most once if the request failed, after which no other methods are called.
+         */
+        public void onError(final Throwable throwable);
+
+        /**
+         * Called at most once when all results have been delivered, after which no other methods are called.
+         */
+        public void onComplete();
+    }
+
+    /**
+     * Controls the flow of results from a {@link ResultPublisher} to its {@link Subscriber}.
+     */
+    public interface Subscription {
+
+        /**
+         * Adds {@code n} to the number of results the {@link Subscriber} is willing to receive. Requesting a
+         * non-positive number signals an {@code IllegalArgumentException} to {@link Subscriber#onError(Throwable)}.
+         */
+        public void request(final long n);
+
+        /**
+         * Stops delivery of results to the {@link Subscriber}.
+         */
+        public void cancel();
+    }
+
+    private enum CancelledSubscription implements Subscription {
+        INSTANCE;
+
+        @Override
+        public void request(final long n) {
+        }
+
+        @Override
+        public void cancel() {
+        }
+    }
+
+    private final class ResultSubscription implements Subscription {
+        private final Subscriber<? super T> subscriber;
+        private final AtomicLong requested = new AtomicLong();
+        private final AtomicInteger wip = new AtomicInteger();
+        private volatile boolean cancelled = false;
+        private volatile Throwable invalidRequest = null;
+        private boolean done = false;
+
+        private ResultSubscription(final Subscriber<? super T> subscriber) {
+            this.subscriber = subscriber;
+        }
+
+        @Override
+        public void request(final long n) {
+            if (n <= 0)
+                invalidRequest = new IllegalArgumentException("Subscription request must be greater than zero");
+            else
+                requested.getAndUpdate(r -> r + n < 0 ? Long.MAX_VALUE : r + n);
+            schedule();
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+            schedule();
+        }
+
+        private void schedule() {
+            if (wip.getAndIncrement() == 0) executor.execute(this::drain);
+        }
+
+        private void drain() {
+            int missed = 1;
+            do {
+                if (!done) {
+                    if (cancelled) {
+                        discard();
+                    } else if (invalidRequest != null) {
+                        cancelled = true;
+                        terminate(invalidRequest);
+                    } else {
+                        emit();
+                    }
+                } else if (cancelled) {
+                    discard();
+                }
+
+                missed = wip.addAndGet(-missed);
+            } while (missed != 0);
+        }
+
+        private void emit() {
+            final long r = requested.get();
+            long emitted = 0;
+            try {
+                while (emitted != r && !cancelled) {
+                    final Result result = resultQueue.poll();
+                    if (null == result) break;
+                    subscriber.onNext(mapper.apply(result));
+                    emitted++;
+                }
+            } catch (Throwable t) {
+                cancelled = true;
+                terminate(t);
+                return;
+            }
+
+            if (emitted != 0 && r != Long.MAX_VALUE)
+                requested.addAndGet(-emitted);
+
+            if (cancelled) {
+                discard();
+            } else if (resultQueue.isComplete() && resultQueue.buffered() == 0) {
+                terminate(resultQueue.getError());
+            } else if (resultQueue.buffered() >= maxBuffered) {
+                resultQueue.pauseReading();
+            } else if (resultQueue.buffered() <= maxBuffered / 2) {
+                resultQueue.resumeReading();
+            }
+        }
+
+        private void discard() {
+            // drop whatever arrives so that the connection keeps reading until the server finishes the request
+            resultQueue.resumeReading();
+            while (resultQueue.poll() != null) {
+                // discarding
+            }
+        }
+
+        private void terminate(final Throwable throwable) {
+            done = true;
+            resultQueue.resumeReading();
+            if (null == throwable)
+                subscriber.onComplete();
+            else
+                subscriber.onError(throwable);
+        }
+    }
+}
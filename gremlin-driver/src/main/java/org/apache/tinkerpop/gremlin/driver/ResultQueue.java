@@ -56,9 +56,24 @@ final class ResultQueue {
 
     private final Queue<Pair<CompletableFuture<List<Result>>,Integer>> waiting = new ConcurrentLinkedQueue<>();
 
+    /**
+     * The {@link Connection} the results are read from which may be {@code null} if the queue is not bound to one.
+     */
+    private final Connection connection;
+
+    private boolean readingPaused = false;
+
+    private volatile Runnable listener = null;
+
     public ResultQueue(final LinkedBlockingQueue<Result> resultLinkedBlockingQueue, final CompletableFuture<Void> readComplete) {
+        this(resultLinkedBlockingQueue, readComplete, null);
+    }
+
+    ResultQueue(final LinkedBlockingQueue<Result> resultLinkedBlockingQueue, final CompletableFuture<Void> readComplete,
+                final Connection connection) {
         this.resultLinkedBlockingQueue = resultLinkedBlockingQueue;
         this.readComplete = readComplete;
+        this.connection = connection;
     }
 
     /**
@@ -69,6 +84,7 @@ final class ResultQueue {
     public void add(final Result result) {
         this.resultLinkedBlockingQueue.offer(result);
         tryDrainNextWaiting(false);
+        notifyListener();
     }
 
     /**
@@ -158,6 +174,59 @@ final class ResultQueue {
         return readComplete.isDone();
     }
 
+    /**
+     * Removes the next {@link Result} from the queue without waiting, returning {@code null} if there is not one.
+     */
+    Result poll() {
+        return resultLinkedBlockingQueue.poll();
+    }
+
+    /**
+     * Gets the number of items in the queue without regard to whether an error occurred.
+     */
+    int buffered() {
+        return resultLinkedBlockingQueue.size();
+    }
+
+    Throwable getError() {
+        return error.get();
+    }
+
+    /**
+     * Sets a callback that is triggered when a {@link Result} is added to the queue or when the queue is completed.
+     * The callback may be called from the thread reading from the network and should not block.
+     */
+    void setListener(final Runnable listener) {
+        this.listener = listener;
+        notifyListener();
+    }
+
+    /**
+     * Asks the {@link Connection} that is filling this queue to stop reading. Has no effect if reading is already
+     * paused by this queue or if there is no {@link Connection}.
+     */
+    synchronized void pauseReading() {
+        if (!readingPaused && connection != null) {
+            readingPaused = true;
+            connection.pauseReading();
+        }
+    }
+
+    /**
+     * Releases a previous call to {@link #pauseReading()}.
+     */
+    synchronized void resumeReading() {
+        if (readingPaused) {
+            readingPaused = false;
+            connection.resumeReading();
+        }
+    }
+
+    private void notifyListener() {
+        final Runnable l = listener;
+        if (l != null) l.run();
+    }
+
     void drainTo(final Collection<Result> collection) {
         if (error.get() != null) throw new RuntimeException(error.get());
         resultLinkedBlockingQueue.drainTo(collection);
@@ -172,12 +241,14 @@ final class ResultQueue {
         this.readComplete.complete(null);
 
         this.drainAllWaiting();
+        this.notifyListener();
     }
 
     void markError(final Throwable throwable) {
         error.set(throwable);
         this.readComplete.completeExceptionally(throwable);
         this.drainAllWaiting();
+        this.notifyListener();
     }
 
     /**
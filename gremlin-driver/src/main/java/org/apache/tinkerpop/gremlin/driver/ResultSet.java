@@ -28,6 +28,7 @@ import java.util.Spliterator;
 import java.util.Spliterators;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
+import java.util.function.Function;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
@@ -134,6 +135,30 @@ public final class ResultSet implements Iterable<Result> {
         }, executor);
     }
 
+    /**
+     * Gets a {@link ResultPublisher} that delivers items to a subscriber as it signals demand for them, without
+     * blocking and without buffering more than {@link ResultPublisher#DEFAULT_MAX_BUFFERED} items on the client.
+     */
+    public ResultPublisher<Result> publisher() {
+        return publisher(ResultPublisher.DEFAULT_MAX_BUFFERED);
+    }
+
+    /**
+     * Gets a {@link ResultPublisher} that delivers items to a subscriber as it signals demand for them, without
+     * blocking and without buffering more than the specified number of items on the client.
+     */
+    public ResultPublisher<Result> publisher(final int maxBuffered) {
+        return publisher(Function.identity(), maxBuffered);
+    }
+
+    /**
+     * Gets a {@link ResultPublisher} that transforms each item with the supplied function before delivering it to a
+     * subscriber.
+     */
+    public <T> ResultPublisher<T> publisher(final Function<Result, T> mapper, final int maxBuffered) {
+        return new ResultPublisher<>(resultQueue, executor, mapper, maxBuffered);
+    }
+
     /**
      * Stream items with a blocking iterator.
      */
@@ -199,6 +199,9 @@ final class Settings {
             if (connectionPoolConf.containsKey("minInProcessPerConnection"))
                 cpSettings.minInProcessPerConnection = connectionPoolConf.getInt("minInProcessPerConnection");
 
+            if (connectionPoolConf.containsKey("pipelineRequests"))
+                cpSettings.pipelineRequests = connectionPoolConf.getBoolean("pipelineRequests");
+
             if (connectionPoolConf.containsKey("maxWaitForConnection"))
                 cpSettings.maxWaitForConnection = connectionPoolConf.getInt("maxWaitForConnection");
 
@@ -289,6 +292,14 @@ final class Settings {
          */
         public int minInProcessPerConnection = Connection.MIN_IN_PROCESS;
 
+        /**
+         * Determines if requests should be pipelined over connections without limit. When enabled, the
+         * {@link #maxInProcessPerConnection} and {@link #minInProcessPerConnection} settings are ignored, requests
+         * never wait for in-process capacity on a connection and connections are selected from the pool by comparing
+         * the usage of two randomly chosen connections. The default for this setting is {@code false}.
+         */
+        public boolean pipelineRequests = false;
+
         /**
          * The amount of time in milliseconds to wait for a new connection before timing out where the default value
          * is 3000.
@@ -27,6 +27,7 @@ public final class Tokens {
     private Tokens() {}
 
     public static final String OPS_AUTHENTICATION = "authentication";
+    public static final String OPS_BATCH = "batch";
     public static final String OPS_BYTECODE = "bytecode";
     public static final String OPS_EVAL = "eval";
     public static final String OPS_INVALID = "invalid";
@@ -44,6 +45,7 @@ public final class Tokens {
     public static final String ARGS_HOST = "host";
     public static final String ARGS_SESSION = "session";
     public static final String ARGS_MANAGE_TRANSACTION = "manageTransaction";
+    public static final String ARGS_PARALLEL = "parallel";
     public static final String ARGS_SASL = "sasl";
     public static final String ARGS_SASL_MECHANISM = "saslMechanism";
     public static final String ARGS_SIDE_EFFECT = "sideEffect";
@@ -58,6 +60,10 @@ public final class Tokens {
 
     public static final String VAL_TRAVERSAL_SOURCE_ALIAS = "g";
 
+    public static final String VAL_BATCH_INDEX = "index";
+    public static final String VAL_BATCH_RESULT = "result";
+    public static final String VAL_BATCH_ERROR = "error";
+
     public static final String STATUS_ATTRIBUTE_EXCEPTIONS = "exceptions";
     public static final String STATUS_ATTRIBUTE_STACK_TRACE = "stackTrace";
 }
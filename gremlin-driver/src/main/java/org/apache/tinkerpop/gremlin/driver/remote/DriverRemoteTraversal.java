@@ -21,6 +21,7 @@ package org.apache.tinkerpop.gremlin.driver.remote;
 import org.apache.commons.configuration.Configuration;
 import org.apache.tinkerpop.gremlin.driver.Client;
 import org.apache.tinkerpop.gremlin.driver.Result;
+import org.apache.tinkerpop.gremlin.driver.ResultPublisher;
 import org.apache.tinkerpop.gremlin.driver.ResultSet;
 import org.apache.tinkerpop.gremlin.process.remote.traversal.AbstractRemoteTraversal;
 import org.apache.tinkerpop.gremlin.process.remote.traversal.DefaultRemoteTraverser;
@@ -113,6 +114,15 @@ public class DriverRemoteTraversal<S, E> extends AbstractRemoteTraversal<S, E> {
         }
     }
 
+    /**
+     * Gets a {@link ResultPublisher} of the traversers returned from the server, which allows them to be consumed
+     * without blocking as demand is signalled. This method is an alternative to iterating the traversal and the two
+     * approaches should not be mixed. Traversers are not re-attached to a local graph.
+     */
+    public ResultPublisher<Traverser.Admin<E>> publisher() {
+        return rs.publisher(r -> (Traverser.Admin<E>) r.getObject(), ResultPublisher.DEFAULT_MAX_BUFFERED);
+    }
+
     /**
      * Releases server-side resources related to this traversal (i.e. clearing the side-effect cache of data related to
      * this traversal.
@@ -0,0 +1,127 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.driver;
+
+import org.apache.tinkerpop.gremlin.driver.message.RequestMessage;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.net.InetSocketAddress;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.core.Is.is;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+/**
+ * @author Stephen Mallette (http://stephen.genoprime.com)
+ */
+public class LoadBalancingStrategyTest {
+
+    private static final RequestMessage msg = RequestMessage.build(Tokens.OPS_EVAL).add(Tokens.ARGS_GREMLIN, "1+1").create();
+
+    private static Cluster cluster;
+    private static Host fast;
+    private static Host slow;
+
+    @BeforeClass
+    public static void setUp() {
+        cluster = Cluster.open();
+        fast = new Host(new InetSocketAddress("localhost", 8182), cluster);
+        slow = new Host(new InetSocketAddress("localhost", 8183), cluster);
+        fast.makeAvailable();
+        slow.makeAvailable();
+    }
+
+    @AfterClass
+    public static void tearDown() {
+        cluster.close();
+    }
+
+    @Test
+    public void shouldPreferHostWithLowerLatency() {
+        final LoadBalancingStrategy.LatencyAware strategy = new LoadBalancingStrategy.LatencyAware();
+        strategy.initialize(cluster, Arrays.asList(slow, fast));
+
+        strategy.onRequestSent(fast);
+        strategy.onRequestCompleted(fast, TimeUnit.MILLISECONDS.toNanos(5));
+        strategy.onRequestSent(slow);
+        strategy.onRequestCompleted(slow, TimeUnit.MILLISECONDS.toNanos(500));
+
+        for (int ix = 0; ix < 100; ix++) {
+            final Iterator<Host> hosts = strategy.select(msg);
+            assertEquals(fast, hosts.next());
+            assertEquals(slow, hosts.next());
+            assertFalse(hosts.hasNext());
+        }
+    }
+
+    @Test
+    public void shouldPreferHostWithFewerRequestsInFlight() {
+        final LoadBalancingStrategy.LatencyAware strategy = new LoadBalancingStrategy.LatencyAware();
+        strategy.initialize(cluster, Arrays.asList(slow, fast));
+
+        strategy.onRequestSent(fast);
+        strategy.onRequestCompleted(fast, TimeUnit.MILLISECONDS.toNanos(10));
+        strategy.onRequestSent(slow);
+        strategy.onRequestCompleted(slow, TimeUnit.MILLISECONDS.toNanos(10));
+
+        // keep a few requests open on the "slow" host
+        strategy.onRequestSent(slow);
+        strategy.onRequestSent(slow);
+
+        assertThat(strategy.getCost(slow), greaterThan(strategy.getCost(fast)));
+        assertEquals(fast, strategy.select(msg).next());
+    }
+
+    @Test
+    public void shouldReactImmediatelyToLatencyPeak() {
+        final LoadBalancingStrategy.LatencyAware strategy = new LoadBalancingStrategy.LatencyAware();
+        strategy.initialize(cluster, Arrays.asList(slow, fast));
+
+        strategy.onRequestSent(slow);
+        strategy.onRequestCompleted(slow, TimeUnit.MILLISECONDS.toNanos(10));
+        final double before = strategy.getCost(slow);
+
+        strategy.onRequestSent(slow);
+        strategy.onRequestCompleted(slow, TimeUnit.MILLISECONDS.toNanos(1000));
+        assertThat(strategy.getCost(slow) > before * 50, is(true));
+    }
+
+    @Test
+    public void shouldNotSelectUnavailableHost() {
+        final LoadBalancingStrategy.LatencyAware strategy = new LoadBalancingStrategy.LatencyAware();
+        strategy.initialize(cluster, Arrays.asList(slow, fast));
+        strategy.onUnavailable(fast);
+
+        final Iterator<Host> hosts = strategy.select(msg);
+        assertEquals(slow, hosts.next());
+        assertFalse(hosts.hasNext());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldNotAllowZeroDecayTime() {
+        new LoadBalancingStrategy.LatencyAware(0);
+    }
+}
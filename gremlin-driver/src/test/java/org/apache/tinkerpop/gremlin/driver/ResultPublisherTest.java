@@ -0,0 +1,162 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.driver;
+
+import org.junit.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.assertEquals;
+
+/**
+ * @author Stephen Mallette (http://stephen.genoprime.com)
+ */
+public class ResultPublisherTest extends AbstractResultQueueTest {
+
+    @Test
+    public void shouldPublishAllResults() throws Exception {
+        final TestSubscriber subscriber = new TestSubscriber(Long.MAX_VALUE);
+        new ResultPublisher<>(resultQueue, pool, Result::getString, 16).subscribe(subscriber);
+
+        addToQueue(100, 0, true, true);
+
+        assertThat(subscriber.terminated.await(30000, TimeUnit.MILLISECONDS), is(true));
+        assertEquals(100, subscriber.items.size());
+        assertEquals("test-0", subscriber.items.get(0));
+        assertEquals("test-99", subscriber.items.get(99));
+        assertThat(subscriber.completed, is(true));
+    }
+
+    @Test
+    public void shouldOnlyPublishRequestedResults() throws Exception {
+        final TestSubscriber subscriber = new TestSubscriber(10);
+        new ResultPublisher<>(resultQueue, pool, Result::getString, 16).subscribe(subscriber);
+
+        addToQueue(100, 0, true, true, 100);
+
+        // give the publisher a chance to over-deliver if it is going to
+        TimeUnit.MILLISECONDS.sleep(250);
+        assertEquals(10, subscriber.items.size());
+
+        subscriber.subscription.request(90);
+        assertThat(subscriber.terminated.await(30000, TimeUnit.MILLISECONDS), is(true));
+        assertEquals(100, subscriber.items.size());
+        assertThat(subscriber.completed, is(true));
+    }
+
+    @Test
+    public void shouldPublishErrorAfterResults() throws Exception {
+        final TestSubscriber subscriber = new TestSubscriber(Long.MAX_VALUE);
+        new ResultPublisher<>(resultQueue, pool, Result::getString, 16).subscribe(subscriber);
+
+        addToQueue(10, 0, true, false, 10);
+        resultQueue.markError(new Exception("bad"));
+
+        assertThat(subscriber.terminated.await(30000, TimeUnit.MILLISECONDS), is(true));
+        assertEquals(10, subscriber.items.size());
+        assertEquals("bad", subscriber.error.get().getMessage());
+    }
+
+    @Test
+    public void shouldStopPublishingOnCancel() throws Exception {
+        final TestSubscriber subscriber = new TestSubscriber(5) {
+            @Override
+            public void onNext(final String item) {
+                super.onNext(item);
+                if (items.size() == 3) subscription.cancel();
+            }
+        };
+        new ResultPublisher<>(resultQueue, pool, Result::getString, 16).subscribe(subscriber);
+
+        addToQueue(100, 0, true, true, 100);
+        TimeUnit.MILLISECONDS.sleep(250);
+
+        assertEquals(3, subscriber.items.size());
+        assertEquals(1, subscriber.terminated.getCount());
+        assertEquals(0, resultQueue.buffered());
+    }
+
+    @Test
+    public void shouldSignalErrorOnInvalidRequest() throws Exception {
+        final TestSubscriber subscriber = new TestSubscriber(0);
+        new ResultPublisher<>(resultQueue, pool, Result::getString, 16).subscribe(subscriber);
+        subscriber.subscription.request(-1);
+
+        assertThat(subscriber.terminated.await(30000, TimeUnit.MILLISECONDS), is(true));
+        assertThat(subscriber.error.get(), instanceOf(IllegalArgumentException.class));
+    }
+
+    @Test
+    public void shouldOnlyAllowOneSubscriber() throws Exception {
+        final ResultPublisher<String> publisher = new ResultPublisher<>(resultQueue, pool, Result::getString, 16);
+        publisher.subscribe(new TestSubscriber(0));
+
+        final TestSubscriber subscriber = new TestSubscriber(0);
+        publisher.subscribe(subscriber);
+        assertThat(subscriber.error.get(), instanceOf(IllegalStateException.class));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldNotAllowZeroMaxBuffered() {
+        new ResultPublisher<>(resultQueue, pool, Result::getString, 0);
+    }
+
+    private static class TestSubscriber implements ResultPublisher.Subscriber<String> {
+        final List<String> items = new CopyOnWriteArrayList<>();
+        final AtomicReference<Throwable> error = new AtomicReference<>();
+        final CountDownLatch terminated = new CountDownLatch(1);
+        final long initialRequest;
+        volatile boolean completed = false;
+        volatile ResultPublisher.Subscription subscription;
+
+        TestSubscriber(final long initialRequest) {
+            this.initialRequest = initialRequest;
+        }
+
+        @Override
+        public void onSubscribe(final ResultPublisher.Subscription subscription) {
+            this.subscription = subscription;
+            if (initialRequest > 0) subscription.request(initialRequest);
+        }
+
+        @Override
+        public void onNext(final String item) {
+            items.add(item);
+        }
+
+        @Override
+        public void onError(final Throwable throwable) {
+            error.set(throwable);
+            terminated.countDown();
+        }
+
+        @Override
+        public void onComplete() {
+            completed = true;
+            terminated.countDown();
+        }
+    }
+}
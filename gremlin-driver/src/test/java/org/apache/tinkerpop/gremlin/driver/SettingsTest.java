@@ -55,6 +55,7 @@ public class SettingsTest {
         conf.setProperty("connectionPool.maxSimultaneousUsagePerConnection", 400);
         conf.setProperty("connectionPool.maxInProcessPerConnection", 500);
         conf.setProperty("connectionPool.minInProcessPerConnection", 600);
+        conf.setProperty("connectionPool.pipelineRequests", true);
         conf.setProperty("connectionPool.maxWaitForConnection", 700);
         conf.setProperty("connectionPool.maxContentLength", 800);
         conf.setProperty("connectionPool.reconnectInterval", 900);
@@ -83,6 +84,7 @@ public class SettingsTest {
         assertEquals(400, settings.connectionPool.maxSimultaneousUsagePerConnection);
         assertEquals(500, settings.connectionPool.maxInProcessPerConnection);
         assertEquals(600, settings.connectionPool.minInProcessPerConnection);
+        assertEquals(true, settings.connectionPool.pipelineRequests);
         assertEquals(700, settings.connectionPool.maxWaitForConnection);
         assertEquals(800, settings.connectionPool.maxContentLength);
         assertEquals(900, settings.connectionPool.reconnectInterval);
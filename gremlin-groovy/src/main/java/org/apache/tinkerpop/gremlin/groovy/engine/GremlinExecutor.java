@@ -27,6 +27,7 @@ import org.apache.tinkerpop.gremlin.jsr223.GremlinScriptEngine;
 import org.apache.tinkerpop.gremlin.jsr223.GremlinScriptEngineManager;
 import org.apache.tinkerpop.gremlin.process.traversal.Bytecode;
 import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.util.VirtualThreadUtil;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -68,6 +69,11 @@ import java.util.stream.Stream;
  * timeouts. It is worth noting that a timeout simply triggers the returned {@link CompletableFuture} to abort, but
  * the thread processing the script will continue to evaluate until completion.  This offers only marginal protection
  * against run-away scripts.
+ * <p/>
+ * When {@link Builder#useVirtualThreads(boolean)} is enabled and no {@code ExecutorService} is supplied, script
+ * evaluations are each executed in their own virtual thread rather than in the default pool. Timeouts continue to be
+ * scheduled on the {@code ScheduledExecutorService}. If the JVM does not support virtual threads, the default thread
+ * pool is used instead.
  *
  * @author Stephen Mallette (http://stephen.genoprime.com)
  */
@@ -467,6 +473,7 @@ public class GremlinExecutor implements AutoCloseable {
 
         private ExecutorService executorService = null;
         private ScheduledExecutorService scheduledExecutorService = null;
+        private boolean useVirtualThreads = false;
         private Consumer<Bindings> beforeEval = (b) -> {
         };
         private Consumer<Bindings> afterSuccess = (b) -> {
@@ -530,6 +537,16 @@ public class GremlinExecutor implements AutoCloseable {
             return this;
         }
 
+        /**
+         * Determines if script evaluations should be executed in virtual threads when an {@code ExecutorService} is
+         * not supplied via {@link #executorService(ExecutorService)}. If virtual threads are not supported by the
+         * JVM then this setting is ignored and the default thread pool is used.
+         */
+        public Builder useVirtualThreads(final boolean useVirtualThreads) {
+            this.useVirtualThreads = useVirtualThreads;
+            return this;
+        }
+
         /**
          * A {@link Consumer} to execute just before the script evaluation.
          */
@@ -572,8 +589,16 @@ public class GremlinExecutor implements AutoCloseable {
             final AtomicBoolean suppliedScheduledExecutor = new AtomicBoolean(true);
 
             final ExecutorService es = Optional.ofNullable(executorService).orElseGet(() -> {
-                poolCreatedByBuilder.set(true);
                 suppliedExecutor.set(false);
+                if (useVirtualThreads) {
+                    final Optional<ExecutorService> virtual = VirtualThreadUtil.createThreadPerTaskExecutor("gremlin-executor-virtual-");
+                    if (virtual.isPresent())
+                        return virtual.get();
+                    else
+                        logger.warn("Virtual threads are not supported by this JVM - falling back to the default thread pool");
+                }
+
+                poolCreatedByBuilder.set(true);
                 return Executors.newScheduledThreadPool(4, threadFactory);
             });
             executorService = es;
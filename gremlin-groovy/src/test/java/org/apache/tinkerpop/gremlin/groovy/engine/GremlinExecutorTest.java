@@ -284,6 +284,32 @@ public class GremlinExecutorTest {
         gremlinExecutor.close();
     }
 
+    @Test
+    public void shouldEvalScriptWithVirtualThreads() throws Exception {
+        final GremlinExecutor gremlinExecutor = GremlinExecutor.build().useVirtualThreads(true).create();
+        assertEquals(2, gremlinExecutor.eval("1+1").get());
+        gremlinExecutor.close();
+    }
+
+    @Test
+    public void shouldTimeoutSleepingScriptWithVirtualThreads() throws Exception {
+        final CountDownLatch timeOutCount = new CountDownLatch(1);
+
+        final GremlinExecutor gremlinExecutor = GremlinExecutor.build()
+                .useVirtualThreads(true)
+                .scriptEvaluationTimeout(250)
+                .afterTimeout((b) -> timeOutCount.countDown()).create();
+        try {
+            gremlinExecutor.eval("Thread.sleep(1000);10").get();
+            fail("This script should have timed out with an exception");
+        } catch (Exception ex) {
+            assertEquals(TimeoutException.class, ex.getCause().getClass());
+        }
+
+        assertTrue(timeOutCount.await(2000, TimeUnit.MILLISECONDS));
+        gremlinExecutor.close();
+    }
+
     @Test
     public void shouldTimeoutSleepingScriptViaOverrideOnLifeCycle() throws Exception {
         final AtomicBoolean successCalled = new AtomicBoolean(false);
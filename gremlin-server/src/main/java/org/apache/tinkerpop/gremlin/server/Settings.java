@@ -91,6 +91,14 @@ public class Settings {
      */
     public int gremlinPool = 0;
 
+    /**
+     * Determines if scripts should be executed in virtual threads rather than in the threads of the
+     * {@link #gremlinPool}. Sessions will similarly bind their requests to a single virtual thread rather than to a
+     * platform thread. Virtual threads require Java 21 or newer and if they are not supported by the JVM then Gremlin
+     * Server will fall back to the {@link #gremlinPool}. Defaults to {@code false}.
+     */
+    public boolean useVirtualThreads = false;
+
     /**
      * Size of the boss thread pool.  Defaults to 1 and should likely stay at 1.  The bossy thread accepts incoming
      * connections on a port until it is unbound. Once a connection is accepted successfully, the boss thread
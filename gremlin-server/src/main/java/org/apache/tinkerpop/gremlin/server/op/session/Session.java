@@ -69,13 +69,12 @@ public class Session {
      */
     private final GremlinExecutor gremlinExecutor;
 
-    private final ThreadFactory threadFactoryWorker = ThreadFactoryUtil.create("session-%d");
-
     /**
      * By binding the session to run ScriptEngine evaluations in a specific thread, each request will respect
-     * the ThreadLocal nature of Graph implementations.
+     * the ThreadLocal nature of Graph implementations. When {@link Settings#useVirtualThreads} is enabled that
+     * thread is a virtual one, which allows large numbers of mostly idle sessions without a platform thread each.
      */
-    private final ExecutorService executor = Executors.newSingleThreadExecutor(threadFactoryWorker);
+    private final ExecutorService executor;
 
     private final ConcurrentHashMap<String, Session> sessions;
 
@@ -88,6 +87,11 @@ public class Session {
         this.scheduledExecutorService = context.getScheduledExecutorService();
         this.sessions = sessions;
 
+        final ThreadFactory threadFactoryWorker = settings.useVirtualThreads ?
+                ThreadFactoryUtil.createVirtual("session-virtual-").orElseGet(() -> ThreadFactoryUtil.create("session-%d")) :
+                ThreadFactoryUtil.create("session-%d");
+        this.executor = Executors.newSingleThreadExecutor(threadFactoryWorker);
+
         final Settings.ProcessorSettings processorSettings = this.settings.optionalProcessor(SessionOpProcessor.class).
                 orElse(SessionOpProcessor.DEFAULT_SETTINGS);
         this.configuredSessionTimeout = Long.parseLong(processorSettings.config.getOrDefault(
@@ -58,6 +58,7 @@ import javax.script.Bindings;
 import javax.script.SimpleBindings;
 import java.lang.reflect.UndeclaredThrowableException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
@@ -65,9 +66,11 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.Future;
 import java.util.concurrent.FutureTask;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static com.codahale.metrics.MetricRegistry.name;
 
@@ -158,6 +161,15 @@ public class TraversalOpProcessor extends AbstractOpProcessor {
                 validateTraversalSourceAlias(ctx, message, validateTraversalRequest(message));
                 op = this::iterateBytecodeTraversal;
                 break;
+            case Tokens.OPS_BATCH:
+                validateTraversalSourceAlias(ctx, message, validateTraversalRequest(message));
+                if (!(message.getArgs().get(Tokens.ARGS_GREMLIN) instanceof List)) {
+                    final String msg = String.format("A message with [%s] op code requires the [%s] argument to be a List of traversals.", Tokens.OPS_BATCH, Tokens.ARGS_GREMLIN);
+                    throw new OpProcessorException(msg, ResponseMessage.build(message).code(ResponseStatusCode.REQUEST_ERROR_INVALID_REQUEST_ARGUMENTS).statusMessage(msg).create());
+                }
+
+                op = this::iterateBatchTraversals;
+                break;
             case Tokens.OPS_GATHER:
                 final Optional<String> sideEffectForGather = message.optionalArgs(Tokens.ARGS_SIDE_EFFECT);
                 if (!sideEffectForGather.isPresent()) {
@@ -418,6 +430,145 @@ public class TraversalOpProcessor extends AbstractOpProcessor {
         }
     }
 
+    /**
+     * Executes a list of traversals submitted in a single request. Each traversal is fully iterated and returned as
+     * a {@code Map} holding its position in the request under {@link Tokens#VAL_BATCH_INDEX} and either the list of
+     * its traversers under {@link Tokens#VAL_BATCH_RESULT} or an error message under {@link Tokens#VAL_BATCH_ERROR},
+     * so that the failure of one traversal does not fail the others. When the {@link Tokens#ARGS_PARALLEL} argument
+     * is {@code true} the traversals are shared out among threads of the Gremlin pool. Each traversal is committed
+     * or rolled back on its own. Side-effects of batched traversals are not cached.
+     */
+    private void iterateBatchTraversals(final Context context) throws Exception {
+        final RequestMessage msg = context.getRequestMessage();
+        logger.debug("Batch traversal request {} for in thread {}", msg.getRequestId(), Thread.currentThread().getName());
+
+        final List<Bytecode> bytecodes = new ArrayList<>();
+        try {
+            for (Object bytecodeObj : (List<?>) msg.getArgs().get(Tokens.ARGS_GREMLIN)) {
+                bytecodes.add(bytecodeObj instanceof Bytecode ? (Bytecode) bytecodeObj :
+                        mapper.readValue(bytecodeObj.toString(), Bytecode.class));
+            }
+        } catch (Exception ex) {
+            logger.error("Could not deserialize the Traversal instances", ex);
+            throw new OpProcessorException("Could not deserialize the Traversal instances",
+                    ResponseMessage.build(msg).code(ResponseStatusCode.SERVER_ERROR_SERIALIZATION)
+                            .statusMessage(ex.getMessage())
+                            .statusAttributeException(ex).create());
+        }
+
+        // earlier validation in selection of this op method should free us to cast this without worry
+        final Map<String, String> aliases = (Map<String, String>) msg.optionalArgs(Tokens.ARGS_ALIASES).get();
+
+        // timeout override
+        final long seto = msg.getArgs().containsKey(Tokens.ARGS_SCRIPT_EVAL_TIMEOUT) ?
+                Long.parseLong(msg.getArgs().get(Tokens.ARGS_SCRIPT_EVAL_TIMEOUT).toString()) : context.getSettings().scriptEvaluationTimeout;
+
+        final boolean parallel = Boolean.parseBoolean(msg.optionalArgs(Tokens.ARGS_PARALLEL).orElse(false).toString());
+
+        final GraphManager graphManager = context.getGraphManager();
+        final String traversalSourceName = aliases.entrySet().iterator().next().getValue();
+        final TraversalSource g = graphManager.getTraversalSource(traversalSourceName);
+
+        final Timer.Context timerContext = traversalOpTimer.time();
+        final FutureTask<Void> evalFuture = new FutureTask<>(() -> {
+            final ChannelHandlerContext ctx = context.getChannelHandlerContext();
+            final Graph graph = g.getGraph();
+
+            try {
+                final Map[] results = new Map[bytecodes.size()];
+                final AtomicInteger nextIndex = new AtomicInteger(0);
+                final CountDownLatch executed = new CountDownLatch(bytecodes.size());
+
+                // every thread pulls the next traversal to execute until there are none left. the thread handling
+                // the request always takes part so the batch completes even if the pool has no idle threads
+                final Runnable worker = () -> {
+                    int ix;
+                    while ((ix = nextIndex.getAndIncrement()) < bytecodes.size()) {
+                        try {
+                            results[ix] = executeBatchedTraversal(context, g, traversalSourceName, bytecodes.get(ix), ix);
+                        } finally {
+                            executed.countDown();
+                        }
+                    }
+                };
+
+                if (parallel) {
+                    final int helpers = Math.min(bytecodes.size(), context.getSettings().gremlinPool) - 1;
+                    for (int ix = 0; ix < helpers; ix++) {
+                        context.getGremlinExecutor().getExecutorService().submit(worker);
+                    }
+                }
+
+                worker.run();
+                executed.await();
+
+                handleIterator(context, Arrays.asList(results).iterator(), graph);
+            } catch (Exception ex) {
+                Throwable t = ex;
+                if (ex instanceof UndeclaredThrowableException)
+                    t = t.getCause();
+
+                if (t instanceof InterruptedException || t instanceof TraversalInterruptedException) {
+                    final String errorMessage = String.format("A timeout occurred during traversal evaluation of [%s] - consider increasing the limit given to scriptEvaluationTimeout", msg);
+                    logger.warn(errorMessage);
+                    ctx.writeAndFlush(ResponseMessage.build(msg).code(ResponseStatusCode.SERVER_ERROR_TIMEOUT)
+                            .statusMessage(errorMessage)
+                            .statusAttributeException(ex).create());
+                } else {
+                    logger.warn(String.format("Exception processing a batch of Traversals on request [%s].", msg.getRequestId()), ex);
+                    ctx.writeAndFlush(ResponseMessage.build(msg).code(ResponseStatusCode.SERVER_ERROR)
+                            .statusMessage(ex.getMessage())
+                            .statusAttributeException(ex).create());
+                }
+                onError(graph, context);
+            } finally {
+                timerContext.stop();
+            }
+
+            return null;
+        });
+
+        final Future<?> executionFuture = context.getGremlinExecutor().getExecutorService().submit(evalFuture);
+        if (seto > 0) {
+            // Schedule a timeout in the thread pool for future execution
+            context.getScheduledExecutorService().schedule(() -> executionFuture.cancel(true), seto, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private Map<String, Object> executeBatchedTraversal(final Context context, final TraversalSource g,
+                                                        final String traversalSourceName, final Bytecode bytecode,
+                                                        final int index) {
+        final Graph graph = g.getGraph();
+        final Map<String, Object> result = new HashMap<>();
+        result.put(Tokens.VAL_BATCH_INDEX, index);
+        try {
+            beforeProcessing(graph, context);
+
+            final Traversal.Admin<?, ?> traversal;
+            final Optional<String> lambdaLanguage = BytecodeHelper.getLambdaLanguage(bytecode);
+            if (!lambdaLanguage.isPresent())
+                traversal = JavaTranslator.of(g).translate(bytecode);
+            else
+                traversal = context.getGremlinExecutor().eval(bytecode, EMPTY_BINDINGS, lambdaLanguage.get(), traversalSourceName);
+
+            traversal.applyStrategies();
+            final List<Object> traversers = new ArrayList<>();
+            new TraverserIterator(traversal).forEachRemaining(traversers::add);
+
+            onTraversalSuccess(graph, context);
+            result.put(Tokens.VAL_BATCH_RESULT, traversers);
+        } catch (TraversalInterruptedException tie) {
+            onError(graph, context);
+            throw tie;
+        } catch (Exception ex) {
+            logger.debug(String.format("Exception processing Traversal %s of a batch request [%s].", index, context.getRequestMessage().getRequestId()), ex);
+            onError(graph, context);
+            result.put(Tokens.VAL_BATCH_ERROR, null == ex.getMessage() ? ex.getClass().getName() : ex.getMessage());
+        }
+
+        return result;
+    }
+
     @Override
     protected void iterateComplete(final ChannelHandlerContext ctx, final RequestMessage msg, final Iterator itty) {
         if (itty instanceof TraverserIterator) {
@@ -34,6 +34,7 @@ import java.lang.reflect.Constructor;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
@@ -92,8 +93,15 @@ public class ServerGremlinExecutor {
         }
 
         if (null == gremlinExecutorService) {
-            final ThreadFactory threadFactoryGremlin = ThreadFactoryUtil.create("exec-%d");
-            this.gremlinExecutorService = Executors.newFixedThreadPool(settings.gremlinPool, threadFactoryGremlin);
+            final Optional<ExecutorService> virtualExecutorService = settings.useVirtualThreads ?
+                    ThreadFactoryUtil.createVirtualExecutor("exec-virtual-") : Optional.empty();
+            if (settings.useVirtualThreads && !virtualExecutorService.isPresent())
+                logger.warn("The useVirtualThreads setting is enabled but virtual threads are not supported by this JVM - falling back to gremlinPool of {}", settings.gremlinPool);
+
+            this.gremlinExecutorService = virtualExecutorService.orElseGet(() -> {
+                final ThreadFactory threadFactoryGremlin = ThreadFactoryUtil.create("exec-%d");
+                return Executors.newFixedThreadPool(settings.gremlinPool, threadFactoryGremlin);
+            });
         } else {
             this.gremlinExecutorService = gremlinExecutorService;
         }
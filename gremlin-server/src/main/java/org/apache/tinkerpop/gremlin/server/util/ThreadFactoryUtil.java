@@ -19,7 +19,10 @@
 package org.apache.tinkerpop.gremlin.server.util;
 
 import org.apache.commons.lang3.concurrent.BasicThreadFactory;
+import org.apache.tinkerpop.gremlin.util.VirtualThreadUtil;
 
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.ThreadFactory;
 
 /**
@@ -32,4 +35,20 @@ public final class ThreadFactoryUtil {
     public static ThreadFactory create(final String pattern) {
         return new BasicThreadFactory.Builder().namingPattern(SERVER_THREAD_PREFIX + pattern).build();
     }
+
+    /**
+     * Creates a {@code ThreadFactory} for virtual threads where each thread name is the prefix followed by a counter.
+     * Returns empty if the JVM does not support virtual threads.
+     */
+    public static Optional<ThreadFactory> createVirtual(final String prefix) {
+        return VirtualThreadUtil.createThreadFactory(SERVER_THREAD_PREFIX + prefix);
+    }
+
+    /**
+     * Creates an {@code ExecutorService} which starts a virtual thread for each task where each thread name is the
+     * prefix followed by a counter. Returns empty if the JVM does not support virtual threads.
+     */
+    public static Optional<ExecutorService> createVirtualExecutor(final String prefix) {
+        return VirtualThreadUtil.createThreadPerTaskExecutor(SERVER_THREAD_PREFIX + prefix);
+    }
 }
@@ -25,6 +25,7 @@ import org.apache.tinkerpop.gremlin.driver.Channelizer;
 import org.apache.tinkerpop.gremlin.driver.Client;
 import org.apache.tinkerpop.gremlin.driver.Cluster;
 import org.apache.tinkerpop.gremlin.driver.Result;
+import org.apache.tinkerpop.gremlin.driver.ResultPublisher;
 import org.apache.tinkerpop.gremlin.driver.ResultSet;
 import org.apache.tinkerpop.gremlin.driver.exception.ResponseException;
 import org.apache.tinkerpop.gremlin.driver.handler.WebSocketClientHandler;
@@ -34,8 +35,11 @@ import org.apache.tinkerpop.gremlin.driver.ser.JsonBuilderGryoSerializer;
 import org.apache.tinkerpop.gremlin.driver.ser.GryoMessageSerializerV1d0;
 import org.apache.tinkerpop.gremlin.driver.ser.Serializers;
 import org.apache.tinkerpop.gremlin.jsr223.ScriptFileGremlinPlugin;
+import org.apache.tinkerpop.gremlin.process.traversal.Traverser;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversalSource;
 import org.apache.tinkerpop.gremlin.server.channel.NioChannelizer;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.apache.tinkerpop.gremlin.structure.util.empty.EmptyGraph;
 import org.apache.tinkerpop.gremlin.structure.util.detached.DetachedVertex;
 import org.apache.tinkerpop.gremlin.tinkergraph.structure.TinkerFactory;
 import org.apache.tinkerpop.gremlin.util.Log4jRecordingAppender;
@@ -1209,6 +1213,83 @@ public class GremlinDriverIntegrateTest extends AbstractGremlinServerIntegration
         cluster.close();
     }
 
+    @Test
+    public void shouldBeThreadSafeToUseOneClientWithPipelinedRequests() throws Exception {
+        final Cluster cluster = TestClientFactory.build().workerPoolSize(2)
+                .pipelineRequests(true)
+                .maxConnectionPoolSize(4)
+                .minConnectionPoolSize(4).create();
+        final Client client = cluster.connect();
+
+        final Map<Integer, Integer> results = new ConcurrentHashMap<>();
+        final List<Thread> threads = new ArrayList<>();
+        for (int ix = 0; ix < 100; ix++) {
+            final int otherNum = ix;
+            final Thread t = new Thread(()->{
+                try {
+                    results.put(otherNum, client.submit("1000+" + otherNum).all().get().get(0).getInt());
+                } catch (Exception ex) {
+                    ex.printStackTrace();
+                }
+            }, name.getMethodName() + "-" + ix);
+
+            t.start();
+            threads.add(t);
+        }
+
+        threads.forEach(FunctionUtils.wrapConsumer(Thread::join));
+
+        assertEquals(100, results.size());
+        for (int ix = 0; ix < results.size(); ix++) {
+            assertThat(results.containsKey(ix), is(true));
+            assertEquals(1000 + ix, results.get(ix).intValue());
+        }
+
+        cluster.close();
+    }
+
+    @Test
+    public void shouldStreamResultsThroughPublisherWithBoundedDemand() throws Exception {
+        final Cluster cluster = TestClientFactory.build().resultIterationBatchSize(16).create();
+        final Client client = cluster.connect();
+
+        final AtomicInteger count = new AtomicInteger(0);
+        final AtomicReference<Throwable> error = new AtomicReference<>();
+        final CountDownLatch latch = new CountDownLatch(1);
+        client.submit("(0..<10000)").publisher(32).subscribe(new ResultPublisher.Subscriber<Result>() {
+            private ResultPublisher.Subscription subscription;
+
+            @Override
+            public void onSubscribe(final ResultPublisher.Subscription subscription) {
+                this.subscription = subscription;
+                subscription.request(1);
+            }
+
+            @Override
+            public void onNext(final Result item) {
+                if (item.getInt() == count.getAndIncrement()) subscription.request(1);
+                else subscription.cancel();
+            }
+
+            @Override
+            public void onError(final Throwable throwable) {
+                error.set(throwable);
+                latch.countDown();
+            }
+
+            @Override
+            public void onComplete() {
+                latch.countDown();
+            }
+        });
+
+        assertThat(latch.await(30000, TimeUnit.MILLISECONDS), is(true));
+        assertNull(error.get());
+        assertEquals(10000, count.get());
+
+        cluster.close();
+    }
+
     @Test
     public void shouldRequireAliasedGraphVariablesInStrictTransactionMode() throws Exception {
         final Cluster cluster = TestClientFactory.open();
@@ -1341,6 +1422,56 @@ public class GremlinDriverIntegrateTest extends AbstractGremlinServerIntegration
         cluster.close();
     }
 
+    @Test
+    public void shouldBatchTraversalsSubmittedToBatchingClient() throws Exception {
+        final Cluster cluster = TestClientFactory.open();
+        final Client client = cluster.connect();
+        client.submit("g.addV('person').property('name','marko').property('age',29).iterate();" +
+                "g.addV('person').property('name','josh').property('age',32)").all().get();
+
+        // a long window so that the batch is only sent once it is full
+        final Client batching = client.alias("g").batch(60000, 3);
+        final GraphTraversalSource g = EmptyGraph.instance().traversal();
+        final CompletableFuture<ResultSet> count = batching.submitAsync(g.V().count());
+        final CompletableFuture<ResultSet> ages = batching.submitAsync(g.V().values("age").order());
+        final CompletableFuture<ResultSet> bad = batching.submitAsync(g.V().sum());
+
+        assertEquals(2L, ((Traverser) count.get().one().getObject()).get());
+        assertThat(ages.get().all().get().stream().map(r -> ((Traverser) r.getObject()).get()).collect(Collectors.toList()), contains(29, 32));
+
+        try {
+            bad.get().all().get();
+            fail("Should have failed as vertices can't be summed");
+        } catch (Exception ex) {
+            final Throwable root = ExceptionUtils.getRootCause(ex);
+            assertThat(root, instanceOf(ResponseException.class));
+            assertEquals(ResponseStatusCode.SERVER_ERROR, ((ResponseException) root).getResponseStatusCode());
+        }
+
+        cluster.close();
+    }
+
+    @Test
+    public void shouldBatchTraversalsInParallelWhenBatchWindowExpires() throws Exception {
+        final Cluster cluster = TestClientFactory.open();
+        final Client client = cluster.connect();
+        client.submit("g.addV('person').property('name','marko').iterate();g.addV('person').property('name','josh')").all().get();
+
+        final Client batching = client.alias("g").batch(100, 1000, true);
+        final GraphTraversalSource g = EmptyGraph.instance().traversal();
+        final List<CompletableFuture<ResultSet>> futures = IntStream.range(0, 20)
+                .mapToObj(i -> batching.submitAsync(g.V().has("name", i % 2 == 0 ? "marko" : "josh").values("name")))
+                .collect(Collectors.toList());
+
+        for (int ix = 0; ix < futures.size(); ix++) {
+            final List<Result> results = futures.get(ix).get(30000, TimeUnit.MILLISECONDS).all().get();
+            assertEquals(1, results.size());
+            assertEquals(ix % 2 == 0 ? "marko" : "josh", ((Traverser) results.get(0).getObject()).get());
+        }
+
+        cluster.close();
+    }
+
     @Test
     public void shouldManageTransactionsInSession() throws Exception {
         assumeNeo4jIsPresent();
@@ -35,6 +35,7 @@ import org.apache.tinkerpop.gremlin.process.traversal.P;
 import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
 import org.apache.tinkerpop.gremlin.process.traversal.Traverser;
 import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversal;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversalSource;
 import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__;
 import org.apache.tinkerpop.gremlin.process.traversal.step.util.EmptyPath;
 import org.apache.tinkerpop.gremlin.process.traversal.strategy.verification.VerificationException;
@@ -2482,6 +2483,84 @@ public class GraphComputerTest extends AbstractGremlinProcessTest {
 
     ///////////////////////////////////
 
+    @Test
+    @LoadGraphWith(MODERN)
+    public void shouldSupportMessageDrivenVertexPrograms() throws Exception {
+        final ComputerResult result = graphProvider.getGraphComputer(graph).program(new VertexProgramS()).submit().get();
+        final GraphTraversalSource g = result.graph().traversal();
+        assertEquals(0, g.V().has("name", "marko").values(VertexProgramS.DISTANCE).next());
+        assertEquals(1, g.V().has("name", "vadas").values(VertexProgramS.DISTANCE).next());
+        assertEquals(1, g.V().has("name", "josh").values(VertexProgramS.DISTANCE).next());
+        assertEquals(1, g.V().has("name", "lop").values(VertexProgramS.DISTANCE).next());
+        assertEquals(2, g.V().has("name", "ripple").values(VertexProgramS.DISTANCE).next());
+        assertFalse(g.V().has("name", "peter").has(VertexProgramS.DISTANCE).hasNext());
+        assertTrue(g.V().has("name", "marko").<Boolean>values(VertexProgramS.KEPT).next());
+        assertEquals(1, g.V().has(VertexProgramS.KEPT).count().next().intValue());
+        assertEquals(2, result.memory().getIteration());
+    }
+
+    private static class VertexProgramS extends StaticVertexProgram<Integer> {
+
+        private static final String DISTANCE = "distance";
+        private static final String KEPT = "kept";
+        private final MessageScope.Local<Integer> outScope = MessageScope.Local.of(__::outE);
+
+        @Override
+        public void setup(final Memory memory) {
+        }
+
+        @Override
+        public void execute(final Vertex vertex, final Messenger<Integer> messenger, final Memory memory) {
+            if (memory.isInitialIteration()) {
+                if (vertex.value("name").equals("marko")) {
+                    vertex.property(DISTANCE, 0);
+                    messenger.sendMessage(this.outScope, 1);
+                    messenger.keepActive();
+                }
+            } else {
+                // marko receives no messages so only executes after the initial iteration because it was kept active
+                if (memory.getIteration() == 1 && vertex.value("name").equals("marko"))
+                    vertex.property(KEPT, true);
+                final Iterator<Integer> messages = messenger.receiveMessages();
+                if (messages.hasNext() && !vertex.property(DISTANCE).isPresent()) {
+                    final int distance = IteratorUtils.reduce(messages, Integer.MAX_VALUE, Math::min);
+                    vertex.property(DISTANCE, distance);
+                    messenger.sendMessage(this.outScope, distance + 1);
+                }
+            }
+        }
+
+        @Override
+        public boolean isMessageDriven() {
+            return true;
+        }
+
+        @Override
+        public boolean terminate(final Memory memory) {
+            return memory.getIteration() == 2;
+        }
+
+        @Override
+        public Set<MessageScope> getMessageScopes(final Memory memory) {
+            return Collections.singleton(this.outScope);
+        }
+
+        @Override
+        public Set<VertexComputeKey> getVertexComputeKeys() {
+            return new HashSet<>(Arrays.asList(VertexComputeKey.of(DISTANCE, false), VertexComputeKey.of(KEPT, false)));
+        }
+
+        @Override
+        public GraphComputer.ResultGraph getPreferredResultGraph() {
+            return GraphComputer.ResultGraph.NEW;
+        }
+
+        @Override
+        public GraphComputer.Persist getPreferredPersist() {
+            return GraphComputer.Persist.VERTEX_PROPERTIES;
+        }
+    }
+
     
     @Test
     @LoadGraphWith(MODERN)
@@ -22,9 +22,13 @@ import org.apache.tinkerpop.gremlin.LoadGraphWith;
 import org.apache.tinkerpop.gremlin.process.AbstractGremlinProcessTest;
 import org.apache.tinkerpop.gremlin.process.computer.ComputerResult;
 import org.apache.tinkerpop.gremlin.process.computer.GraphComputer;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
 import org.apache.tinkerpop.gremlin.util.iterator.IteratorUtils;
 import org.junit.Test;
 
+import java.util.Map;
+
 import static org.apache.tinkerpop.gremlin.LoadGraphWith.GraphData.MODERN;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
@@ -111,4 +115,36 @@ public class PageRankVertexProgramTest extends AbstractGremlinProcessTest {
         final double sum = result.graph().traversal().V().values(PageRankVertexProgram.PAGE_RANK).sum().next().doubleValue();
         assertEquals(1.0d, sum, 0.01d);
     }
-}
\ No newline at end of file
+
+    @Test
+    @LoadGraphWith(MODERN)
+    public void shouldExecuteDeltaPageRank() throws Exception {
+        final ComputerResult result = graph.compute(graphProvider.getGraphComputer(graph).getClass()).
+                program(PageRankVertexProgram.build().delta(true).epsilon(0.00001d).iterations(30).create(graph)).submit().get();
+        final Map<String, Double> ranks = result.graph().traversal().V().<String, Double>group().by("name").by(__.values(PageRankVertexProgram.PAGE_RANK)).next();
+        assertEquals(0.0250d, ranks.get("marko"), 0.0001d);
+        assertEquals(0.0321d, ranks.get("vadas"), 0.0001d);
+        assertEquals(0.0670d, ranks.get("lop"), 0.0001d);
+        assertEquals(0.0321d, ranks.get("josh"), 0.0001d);
+        assertEquals(0.0386d, ranks.get("ripple"), 0.0001d);
+        assertEquals(0.0250d, ranks.get("peter"), 0.0001d);
+        assertTrue(result.memory().getIteration() < 30); // converges once there are no more changes to propagate
+        assertEquals(result.memory().asMap().size(), 0);
+    }
+
+    @Test
+    @LoadGraphWith(MODERN)
+    public void shouldExecutePersonalizedPageRank() throws Exception {
+        final ComputerResult result = graph.compute(graphProvider.getGraphComputer(graph).getClass()).
+                program(PageRankVertexProgram.build().seeds(__.<Vertex>has("name", "marko").asAdmin()).epsilon(0.0d).iterations(30).create(graph)).submit().get();
+        final Map<String, Double> ranks = result.graph().traversal().V().<String, Double>group().by("name").by(__.values(PageRankVertexProgram.PAGE_RANK)).next();
+        assertEquals(0.478d, ranks.get("marko"), 0.01d);
+        assertEquals(0.136d, ranks.get("vadas"), 0.01d);
+        assertEquals(0.193d, ranks.get("lop"), 0.01d);
+        assertEquals(0.136d, ranks.get("josh"), 0.01d);
+        assertEquals(0.058d, ranks.get("ripple"), 0.01d);
+        assertEquals(0.0d, ranks.get("peter"), 0.0d); // never teleported to nor reachable from a seed
+        assertEquals(1.0d, ranks.values().stream().mapToDouble(Double::doubleValue).sum(), 0.01d);
+        assertEquals(result.memory().asMap().size(), 0);
+    }
+}
@@ -49,6 +49,7 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Set;
+import java.util.function.BinaryOperator;
 
 /**
  * @author Marko A. Rodriguez (http://markorodriguez.com)
@@ -99,6 +100,7 @@ public final class SparkExecutor {
                     final VertexProgram<M> workerVertexProgram = VertexProgram.createVertexProgram(HadoopGraph.open(graphComputerConfiguration), vertexProgramConfiguration); // each partition(Spark)/worker(TP3) has a local copy of the vertex program (a worker's task)
                     final String[] vertexComputeKeysArray = VertexProgramHelper.vertexComputeKeysAsArray(workerVertexProgram.getVertexComputeKeys()); // the compute keys as an array
                     final SparkMessenger<M> messenger = new SparkMessenger<>();
+                    final boolean messageDriven = workerVertexProgram.isMessageDriven() && !memory.isInitialIteration();
 
                     workerVertexProgram.workerIterationStart(memory.asImmutable()); // start the worker
                     return IteratorUtils.map(partitionIterator, vertexViewIncoming -> {
@@ -111,6 +113,14 @@ public final class SparkExecutor {
                         // drop any computed properties that are cached in memory
                         vertex.dropVertexProperties(vertexComputeKeysArray);
                         final List<M> incomingMessages = hasViewAndMessages ? vertexViewIncoming._2()._2().get().getIncomingMessages() : Collections.emptyList();
+                        // a vertex outside the frontier of a message-driven vertex program keeps its view untouched
+                        if (messageDriven && incomingMessages.isEmpty() && !(hasViewAndMessages && vertexViewIncoming._2()._2().get().isActive())) {
+                            if (!partitionIterator.hasNext())
+                                workerVertexProgram.workerIterationEnd(memory.asImmutable());
+                            return previousView.isEmpty() ?
+                                    null :
+                                    new Tuple2<>(vertex.id(), new ViewOutgoingPayload<>(previousView, Collections.<Tuple2<Object, M>>emptyList()));
+                        }
                         IteratorUtils.removeOnNext(previousView.iterator()).forEachRemaining(property -> property.attach(Attachable.Method.create(vertex)));  // attach the view to the vertex
                         assert previousView.isEmpty();
                         // do the vertex's vertex program iteration
@@ -127,9 +137,9 @@ public final class SparkExecutor {
                         final List<Tuple2<Object, M>> outgoingMessages = messenger.getOutgoingMessages(); // get the outgoing messages being sent by this vertex
                         if (!partitionIterator.hasNext())
                             workerVertexProgram.workerIterationEnd(memory.asImmutable()); // if no more vertices in the partition, end the worker's iteration
-                        return (nextView.isEmpty() && outgoingMessages.isEmpty()) ?
+                        return (nextView.isEmpty() && outgoingMessages.isEmpty() && !messenger.isActive()) ?
                                 null : // if there is no view nor outgoing messages, emit nothing
-                                new Tuple2<>(vertex.id(), new ViewOutgoingPayload<>(nextView, outgoingMessages));  // else, emit the vertex id, its view, and its outgoing messages
+                                new Tuple2<>(vertex.id(), new ViewOutgoingPayload<>(nextView, outgoingMessages, messenger.isActive()));  // else, emit the vertex id, its view, and its outgoing messages
                     });
                 }, true)  // true means that the partition is preserved
                 .filter(tuple -> null != tuple); // if there are no messages or views, then the tuple is null (memory optimization)
@@ -231,7 +241,12 @@ public final class SparkExecutor {
     public static <K, V, OK, OV> JavaPairRDD<OK, OV> executeReduce(
             final JavaPairRDD<K, V> mapOrCombineRDD, final MapReduce<K, V, OK, OV, ?> mapReduce,
             final Configuration graphComputerConfiguration) {
-        JavaPairRDD<OK, OV> reduceRDD = mapOrCombineRDD.groupByKey().mapPartitionsToPair(partitionIterator -> {
+        // an associative reduce can merge the values of a key on each partition before the shuffle rather than
+        // gathering every value of the key in one place
+        final JavaPairRDD<K, Iterable<V>> groupedRDD = mapReduce.getReduceOperator().isPresent() ?
+                mapOrCombineRDD.reduceByKey(new ReduceOperatorFunction<>(graphComputerConfiguration)).mapValues(value -> Collections.singletonList(value)) :
+                mapOrCombineRDD.groupByKey();
+        JavaPairRDD<OK, OV> reduceRDD = groupedRDD.mapPartitionsToPair(partitionIterator -> {
             KryoShimServiceLoader.applyConfiguration(graphComputerConfiguration);
             return new ReduceIterator<>(MapReduce.<MapReduce<K, V, OK, OV, ?>>createMapReduce(HadoopGraph.open(graphComputerConfiguration), graphComputerConfiguration), partitionIterator);
         });
@@ -239,4 +254,27 @@ public final class SparkExecutor {
             reduceRDD = reduceRDD.sortByKey(mapReduce.getReduceKeySort().get(), true, 1);
         return reduceRDD;
     }
+
+    /**
+     * Applies the {@link MapReduce#getReduceOperator()} which is not serializable itself and is thus loaded from the
+     * configuration the first time it is used in a task.
+     */
+    private static final class ReduceOperatorFunction<V> implements Function2<V, V, V> {
+
+        private final Configuration graphComputerConfiguration;
+        private transient BinaryOperator<V> reduceOperator;
+
+        private ReduceOperatorFunction(final Configuration graphComputerConfiguration) {
+            this.graphComputerConfiguration = graphComputerConfiguration;
+        }
+
+        @Override
+        public V call(final V a, final V b) {
+            if (null == this.reduceOperator) {
+                KryoShimServiceLoader.applyConfiguration(this.graphComputerConfiguration);
+                this.reduceOperator = MapReduce.<MapReduce<?, V, ?, ?, ?>>createMapReduce(HadoopGraph.open(this.graphComputerConfiguration), this.graphComputerConfiguration).getReduceOperator().get();
+            }
+            return this.reduceOperator.apply(a, b);
+        }
+    }
 }
\ No newline at end of file
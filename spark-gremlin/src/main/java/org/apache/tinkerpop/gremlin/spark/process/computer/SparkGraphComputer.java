@@ -28,7 +28,6 @@ import org.apache.hadoop.fs.Path;
 import org.apache.hadoop.mapreduce.InputFormat;
 import org.apache.hadoop.mapreduce.lib.input.FileInputFormat;
 import org.apache.hadoop.mapreduce.lib.output.FileOutputFormat;
-import org.apache.spark.HashPartitioner;
 import org.apache.spark.Partitioner;
 import org.apache.spark.api.java.JavaPairRDD;
 import org.apache.spark.api.java.JavaSparkContext;
@@ -56,6 +55,8 @@ import org.apache.tinkerpop.gremlin.process.computer.util.DefaultComputerResult;
 import org.apache.tinkerpop.gremlin.process.computer.util.MapMemory;
 import org.apache.tinkerpop.gremlin.process.traversal.TraversalStrategies;
 import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalInterruptedException;
+import org.apache.tinkerpop.gremlin.spark.process.computer.partitioner.GraphPartitioner;
+import org.apache.tinkerpop.gremlin.spark.process.computer.partitioner.HashGraphPartitioner;
 import org.apache.tinkerpop.gremlin.spark.process.computer.payload.ViewIncomingPayload;
 import org.apache.tinkerpop.gremlin.spark.process.computer.traversal.strategy.SparkVertexProgramInterceptor;
 import org.apache.tinkerpop.gremlin.spark.process.computer.traversal.strategy.optimization.SparkInterceptorStrategy;
@@ -87,6 +88,7 @@ import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 import java.util.concurrent.ThreadFactory;
 
+import static org.apache.tinkerpop.gremlin.hadoop.Constants.GREMLIN_SPARK_GRAPH_PARTITIONER;
 import static org.apache.tinkerpop.gremlin.hadoop.Constants.GREMLIN_SPARK_GRAPH_STORAGE_LEVEL;
 import static org.apache.tinkerpop.gremlin.hadoop.Constants.GREMLIN_SPARK_PERSIST_CONTEXT;
 import static org.apache.tinkerpop.gremlin.hadoop.Constants.GREMLIN_SPARK_PERSIST_STORAGE_LEVEL;
@@ -182,6 +184,14 @@ public final class SparkGraphComputer extends AbstractHadoopGraphComputer {
         return configure(GREMLIN_SPARK_SKIP_PARTITIONER, skip);
     }
 
+    /**
+     * Specifies the {@link GraphPartitioner} used to partition the graph RDD when it is not already partitioned. By
+     * default, this value is {@link HashGraphPartitioner}.
+     */
+    public SparkGraphComputer graphPartitioner(final Class<? extends GraphPartitioner> graphPartitioner) {
+        return configure(GREMLIN_SPARK_GRAPH_PARTITIONER, graphPartitioner.getCanonicalName());
+    }
+
     /**
      * Determines if the graph RDD should be cached or not. If {@code true} then
      * {@link #graphStorageLevel(StorageLevel)} is ignored. By default, this value is {@code false}.
@@ -338,12 +348,13 @@ public final class SparkGraphComputer extends AbstractHadoopGraphComputer {
                     this.logger.debug("Filtering the loaded graphRDD: " + this.graphFilter);
                     loadedGraphRDD = SparkExecutor.applyGraphFilter(loadedGraphRDD, this.graphFilter);
                 }
-                // if the loaded graph RDD is already partitioned use that partitioner, else partition it with HashPartitioner
+                // if the loaded graph RDD is already partitioned use that partitioner, else partition it with the GraphPartitioner
                 if (loadedGraphRDD.partitioner().isPresent())
                     this.logger.debug("Using the existing partitioner associated with the loaded graphRDD: " + loadedGraphRDD.partitioner().get());
                 else {
                     if (!skipPartitioner) {
-                        final Partitioner partitioner = new HashPartitioner(this.workersSet ? this.workers : loadedGraphRDD.partitions().size());
+                        final GraphPartitioner graphPartitioner = hadoopConfiguration.getClass(GREMLIN_SPARK_GRAPH_PARTITIONER, HashGraphPartitioner.class, GraphPartitioner.class).newInstance();
+                        final Partitioner partitioner = graphPartitioner.createPartitioner(loadedGraphRDD, this.workersSet ? this.workers : loadedGraphRDD.partitions().size(), graphComputerConfiguration);
                         this.logger.debug("Partitioning the loaded graphRDD: " + partitioner);
                         loadedGraphRDD = loadedGraphRDD.partitionBy(partitioner);
                         partitioned = true;
@@ -452,8 +463,8 @@ public final class SparkGraphComputer extends AbstractHadoopGraphComputer {
                         mapReduce.storeState(newApacheConfiguration);
                         // map
                         final JavaPairRDD mapRDD = SparkExecutor.executeMap((JavaPairRDD) mapReduceRDD, mapReduce, newApacheConfiguration);
-                        // combine
-                        final JavaPairRDD combineRDD = mapReduce.doStage(MapReduce.Stage.COMBINE) ? SparkExecutor.executeCombine(mapRDD, newApacheConfiguration) : mapRDD;
+                        // combine (unless the reduce operator already merges the values before they are shuffled)
+                        final JavaPairRDD combineRDD = mapReduce.doStage(MapReduce.Stage.COMBINE) && !mapReduce.getReduceOperator().isPresent() ? SparkExecutor.executeCombine(mapRDD, newApacheConfiguration) : mapRDD;
                         // reduce
                         final JavaPairRDD reduceRDD = mapReduce.doStage(MapReduce.Stage.REDUCE) ? SparkExecutor.executeReduce(combineRDD, mapReduce, newApacheConfiguration) : combineRDD;
                         // write the map reduce output back to disk and computer result memory
@@ -42,11 +42,20 @@ public final class SparkMessenger<M> implements Messenger<M> {
     private Vertex vertex;
     private Iterable<M> incomingMessages;
     private List<Tuple2<Object, M>> outgoingMessages = new ArrayList<>();
+    private boolean active = false;
 
     public void setVertexAndIncomingMessages(final Vertex vertex, final Iterable<M> incomingMessages) {
         this.vertex = vertex;
         this.incomingMessages = incomingMessages;
         this.outgoingMessages = new ArrayList<>();
+        this.active = false;
+    }
+
+    /**
+     * Determines if the current vertex called {@link #keepActive()}.
+     */
+    public boolean isActive() {
+        return this.active;
     }
 
     public List<Tuple2<Object, M>> getOutgoingMessages() {
@@ -79,6 +88,11 @@ public final class SparkMessenger<M> implements Messenger<M> {
         }
     }
 
+    @Override
+    public void keepActive() {
+        this.active = true;
+    }
+
     ///////////
 
     private static <T extends Traversal.Admin<Vertex, Edge>> T setVertexStart(final Traversal.Admin<Vertex, Edge> incidentTraversal, final Vertex vertex) {
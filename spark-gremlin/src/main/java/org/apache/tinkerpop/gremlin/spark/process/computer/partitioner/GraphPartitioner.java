@@ -0,0 +1,45 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.spark.process.computer.partitioner;
+
+import org.apache.commons.configuration.Configuration;
+import org.apache.spark.Partitioner;
+import org.apache.spark.api.java.JavaPairRDD;
+import org.apache.tinkerpop.gremlin.hadoop.structure.io.VertexWritable;
+
+/**
+ * Determines the {@code Partitioner} with which {@code SparkGraphComputer} partitions the loaded graph RDD. As the
+ * views and messages of each iteration are shuffled with the same {@code Partitioner}, a message only crosses
+ * partitions when its edge does, so a {@code GraphPartitioner} that cuts fewer edges reduces the shuffle of every
+ * iteration. An implementation must have a public no-argument constructor.
+ *
+ * @author Stephen Mallette (http://stephen.genoprime.com)
+ */
+public interface GraphPartitioner {
+
+    /**
+     * Creates the {@code Partitioner} for the graph.
+     *
+     * @param graphRDD      the loaded graph RDD which is not yet partitioned
+     * @param numPartitions the number of partitions to create
+     * @param configuration the configuration of the graph computer
+     * @return a partitioner of vertex ids
+     */
+    public Partitioner createPartitioner(final JavaPairRDD<Object, VertexWritable> graphRDD, final int numPartitions, final Configuration configuration);
+}
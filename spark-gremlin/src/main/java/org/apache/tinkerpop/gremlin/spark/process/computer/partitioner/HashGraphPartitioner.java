@@ -0,0 +1,39 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.spark.process.computer.partitioner;
+
+import org.apache.commons.configuration.Configuration;
+import org.apache.spark.HashPartitioner;
+import org.apache.spark.Partitioner;
+import org.apache.spark.api.java.JavaPairRDD;
+import org.apache.tinkerpop.gremlin.hadoop.structure.io.VertexWritable;
+
+/**
+ * Partitions the vertices by the hash of their id which is the default {@link GraphPartitioner}. It requires no pass
+ * over the graph but ignores the edges altogether.
+ *
+ * @author Stephen Mallette (http://stephen.genoprime.com)
+ */
+public final class HashGraphPartitioner implements GraphPartitioner {
+
+    @Override
+    public Partitioner createPartitioner(final JavaPairRDD<Object, VertexWritable> graphRDD, final int numPartitions, final Configuration configuration) {
+        return new HashPartitioner(numPartitions);
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.spark.process.computer.partitioner;
+
+import org.apache.commons.configuration.Configuration;
+import org.apache.spark.Partitioner;
+import org.apache.spark.api.java.JavaPairRDD;
+import org.apache.tinkerpop.gremlin.hadoop.structure.io.VertexWritable;
+import org.apache.tinkerpop.gremlin.structure.Direction;
+import org.apache.tinkerpop.gremlin.structure.Edge;
+import org.apache.tinkerpop.gremlin.structure.util.star.StarGraph;
+import scala.Tuple2;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Assigns vertices to partitions with linear deterministic greedy streaming partitioning. The vertices are streamed
+ * once through the driver and each is placed in the partition that already holds the most of its neighbors, weighted
+ * by how much room that partition has left so that the partitions remain balanced. The resulting
+ * {@link VertexAssignmentPartitioner} stays with the graph RDD, so a graph that is persisted in the Spark context with
+ * {@code PersistedOutputRDD} keeps its partitioning for subsequent jobs without computing it again.
+ * <p/>
+ * As the driver holds the assignment of every vertex, this partitioner is best suited to graphs whose ids fit in
+ * the memory of the driver and that are processed by many iterations.
+ *
+ * @author Stephen Mallette (http://stephen.genoprime.com)
+ */
+public final class LinearDeterministicGreedyPartitioner implements GraphPartitioner {
+
+    /**
+     * The fraction by which a partition may exceed an even share of the vertices.
+     */
+    public static final String GREMLIN_SPARK_LDG_IMBALANCE = "gremlin.spark.ldg.imbalance";
+
+    @Override
+    public Partitioner createPartitioner(final JavaPairRDD<Object, VertexWritable> graphRDD, final int numPartitions, final Configuration configuration) {
+        final long vertexCount = graphRDD.count();
+        final long capacity = getCapacity(vertexCount, numPartitions, configuration.getDouble(GREMLIN_SPARK_LDG_IMBALANCE, 0.05d));
+        final Map<Object, Integer> assignments = new HashMap<>();
+        final long[] sizes = new long[numPartitions];
+        final int[] neighbors = new int[numPartitions];
+
+        final Iterator<Tuple2<Object, List<Object>>> adjacency = graphRDD.mapValues(LinearDeterministicGreedyPartitioner::getAdjacentIds).toLocalIterator();
+        while (adjacency.hasNext()) {
+            final Tuple2<Object, List<Object>> vertex = adjacency.next();
+            for (final Object adjacentId : vertex._2()) {
+                final Integer partition = assignments.get(adjacentId);
+                if (null != partition)
+                    neighbors[partition]++;
+            }
+
+            // ties go to the smaller partition which is also where a vertex without placed neighbors goes. full
+            // partitions are never chosen and as the capacities sum to at least the vertex count one is always open
+            int best = -1;
+            double bestScore = Double.NEGATIVE_INFINITY;
+            for (int i = 0; i < numPartitions; i++) {
+                final double score = neighbors[i] * (1.0d - (double) sizes[i] / capacity);
+                if (sizes[i] < capacity && (score > bestScore || (score == bestScore && sizes[i] < sizes[best]))) {
+                    best = i;
+                    bestScore = score;
+                }
+                neighbors[i] = 0;
+            }
+            assignments.put(vertex._1(), best);
+            sizes[best]++;
+        }
+        return new VertexAssignmentPartitioner(numPartitions, assignments);
+    }
+
+    /**
+     * Gets the maximum number of vertices a partition may hold.
+     */
+    static long getCapacity(final long vertexCount, final int numPartitions, final double imbalance) {
+        return Math.max(1L, (long) Math.ceil(((double) vertexCount / numPartitions) * (1.0d + imbalance)));
+    }
+
+    private static List<Object> getAdjacentIds(final VertexWritable vertexWritable) {
+        final StarGraph.StarVertex vertex = vertexWritable.get();
+        final List<Object> ids = new ArrayList<>();
+        final Iterator<Edge> outEdges = vertex.edges(Direction.OUT);
+        while (outEdges.hasNext()) {
+            ids.add(outEdges.next().inVertex().id());
+        }
+        final Iterator<Edge> inEdges = vertex.edges(Direction.IN);
+        while (inEdges.hasNext()) {
+            ids.add(inEdges.next().outVertex().id());
+        }
+        return ids;
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.spark.process.computer.partitioner;
+
+import org.apache.spark.Partitioner;
+
+import java.util.Map;
+
+/**
+ * A {@code Partitioner} that places each vertex id in the partition it was assigned. An id without an assignment is
+ * placed by its hash.
+ *
+ * @author Stephen Mallette (http://stephen.genoprime.com)
+ */
+public final class VertexAssignmentPartitioner extends Partitioner {
+
+    private final int numPartitions;
+    private final Map<Object, Integer> assignments;
+
+    public VertexAssignmentPartitioner(final int numPartitions, final Map<Object, Integer> assignments) {
+        this.numPartitions = numPartitions;
+        this.assignments = assignments;
+    }
+
+    @Override
+    public int numPartitions() {
+        return this.numPartitions;
+    }
+
+    @Override
+    public int getPartition(final Object key) {
+        final Integer partition = this.assignments.get(key);
+        if (null != partition)
+            return partition;
+        return null == key ? 0 : Math.floorMod(key.hashCode(), this.numPartitions);
+    }
+
+    @Override
+    public boolean equals(final Object other) {
+        return this == other || (other instanceof VertexAssignmentPartitioner &&
+                this.numPartitions == ((VertexAssignmentPartitioner) other).numPartitions &&
+                this.assignments.equals(((VertexAssignmentPartitioner) other).assignments));
+    }
+
+    @Override
+    public int hashCode() {
+        return this.numPartitions;
+    }
+
+    @Override
+    public String toString() {
+        return "VertexAssignmentPartitioner[" + this.numPartitions + "]";
+    }
+}
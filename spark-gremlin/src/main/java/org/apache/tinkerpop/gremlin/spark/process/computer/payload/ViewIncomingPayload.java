@@ -32,7 +32,7 @@ public final class ViewIncomingPayload<M> implements Payload {
 
     private List<DetachedVertexProperty<Object>> view = null;
     private List<M> incomingMessages;
-
+    private boolean active = false;
 
     private ViewIncomingPayload() {
 
@@ -47,6 +47,7 @@ public final class ViewIncomingPayload<M> implements Payload {
         this.view = viewPayload.getView();
         if (this.view.isEmpty())
             this.view = null;
+        this.active = viewPayload.isActive();
     }
 
     public ViewIncomingPayload(final MessagePayload<M> messagePayload) {
@@ -68,6 +69,13 @@ public final class ViewIncomingPayload<M> implements Payload {
         return null != this.view;
     }
 
+    /**
+     * Determines if the vertex asked to be kept active for the next iteration of a message-driven vertex program.
+     */
+    public boolean isActive() {
+        return this.active;
+    }
+
     ////////////////////
 
 
@@ -83,6 +91,7 @@ public final class ViewIncomingPayload<M> implements Payload {
             this.view = viewIncomingPayload.view;
         else
             this.view.addAll(viewIncomingPayload.getView());
+        this.active = this.active || viewIncomingPayload.active;
 
         for (final M message : viewIncomingPayload.getIncomingMessages()) {
             this.mergeMessage(message, messageCombiner);
@@ -92,8 +101,10 @@ public final class ViewIncomingPayload<M> implements Payload {
     public void mergePayload(final Payload payload, final MessageCombiner<M> messageCombiner) {
         if (null == payload)
             return;
-        if (payload instanceof ViewPayload)
+        if (payload instanceof ViewPayload) {
             this.view = ((ViewPayload) payload).getView();
+            this.active = this.active || ((ViewPayload) payload).isActive();
+        }
         else if (payload instanceof MessagePayload)
             this.mergeMessage(((MessagePayload<M>) payload).getMessage(), messageCombiner);
         else if (payload instanceof ViewIncomingPayload)
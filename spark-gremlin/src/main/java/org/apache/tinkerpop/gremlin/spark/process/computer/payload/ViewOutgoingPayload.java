@@ -31,6 +31,7 @@ public final class ViewOutgoingPayload<M> implements Payload {
 
     private List<DetachedVertexProperty<Object>> view;
     private List<Tuple2<Object, M>> outgoingMessages;
+    private boolean active = false;
 
     private ViewOutgoingPayload() {
 
@@ -41,8 +42,13 @@ public final class ViewOutgoingPayload<M> implements Payload {
         this.outgoingMessages = outgoingMessages.isEmpty() ? null : outgoingMessages;
     }
 
+    public ViewOutgoingPayload(final List<DetachedVertexProperty<Object>> view, final List<Tuple2<Object, M>> outgoingMessages, final boolean active) {
+        this(view, outgoingMessages);
+        this.active = active;
+    }
+
     public ViewPayload getView() {
-        return new ViewPayload(this.view);
+        return new ViewPayload(this.view, this.active);
     }
 
     public List<Tuple2<Object, M>> getOutgoingMessages() {
@@ -29,6 +29,7 @@ import java.util.List;
 public final class ViewPayload implements Payload {
 
     private List<DetachedVertexProperty<Object>> view;
+    private boolean active = false;
 
     private ViewPayload() {
     }
@@ -37,6 +38,18 @@ public final class ViewPayload implements Payload {
         this.view = view;
     }
 
+    public ViewPayload(final List<DetachedVertexProperty<Object>> view, final boolean active) {
+        this.view = view;
+        this.active = active;
+    }
+
+    /**
+     * Determines if the vertex asked to be kept active for the next iteration of a message-driven vertex program.
+     */
+    public boolean isActive() {
+        return this.active;
+    }
+
     public List<DetachedVertexProperty<Object>> getView() {
         return null == this.view ? Collections.emptyList() : this.view;
     }
@@ -16,7 +16,6 @@
  * specific language governing permissions and limitations
  * under the License.
  */
-
 package org.apache.tinkerpop.gremlin.spark.process.computer.traversal.strategy.optimization.interceptor;
 
 import org.apache.spark.api.java.JavaPairRDD;
@@ -26,41 +25,68 @@ import org.apache.tinkerpop.gremlin.process.computer.ProgramPhase;
 import org.apache.tinkerpop.gremlin.process.computer.traversal.MemoryTraversalSideEffects;
 import org.apache.tinkerpop.gremlin.process.computer.traversal.TraversalVertexProgram;
 import org.apache.tinkerpop.gremlin.process.computer.traversal.strategy.finalization.ComputerFinalizationStrategy;
+import org.apache.tinkerpop.gremlin.process.traversal.Operator;
+import org.apache.tinkerpop.gremlin.process.traversal.Path;
 import org.apache.tinkerpop.gremlin.process.traversal.Scope;
 import org.apache.tinkerpop.gremlin.process.traversal.Step;
 import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.process.traversal.TraversalStrategies;
 import org.apache.tinkerpop.gremlin.process.traversal.Traverser;
+import org.apache.tinkerpop.gremlin.process.traversal.TraverserGenerator;
 import org.apache.tinkerpop.gremlin.process.traversal.step.Barrier;
-import org.apache.tinkerpop.gremlin.process.traversal.step.map.CountGlobalStep;
-import org.apache.tinkerpop.gremlin.process.traversal.step.map.FoldStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.LambdaHolder;
+import org.apache.tinkerpop.gremlin.process.traversal.step.LocalBarrier;
+import org.apache.tinkerpop.gremlin.process.traversal.step.Mutating;
+import org.apache.tinkerpop.gremlin.process.traversal.step.SideEffectCapable;
+import org.apache.tinkerpop.gremlin.process.traversal.step.TraversalParent;
+import org.apache.tinkerpop.gremlin.process.traversal.step.filter.RangeGlobalStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.EdgeOtherVertexStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.EdgeVertexStep;
 import org.apache.tinkerpop.gremlin.process.traversal.step.map.GraphStep;
-import org.apache.tinkerpop.gremlin.process.traversal.step.map.GroupCountStep;
-import org.apache.tinkerpop.gremlin.process.traversal.step.map.GroupStep;
-import org.apache.tinkerpop.gremlin.process.traversal.step.map.MaxGlobalStep;
-import org.apache.tinkerpop.gremlin.process.traversal.step.map.MeanGlobalStep;
-import org.apache.tinkerpop.gremlin.process.traversal.step.map.MinGlobalStep;
-import org.apache.tinkerpop.gremlin.process.traversal.step.map.SumGlobalStep;
-import org.apache.tinkerpop.gremlin.process.traversal.step.util.ReducingBarrierStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.OrderGlobalStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.VertexStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.BulkSet;
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.SupplyingBarrierStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.Tree;
+import org.apache.tinkerpop.gremlin.process.traversal.strategy.decoration.HaltedTraverserStrategy;
 import org.apache.tinkerpop.gremlin.process.traversal.strategy.decoration.SubgraphStrategy;
+import org.apache.tinkerpop.gremlin.process.traversal.strategy.optimization.PathRetractionStrategy;
 import org.apache.tinkerpop.gremlin.process.traversal.strategy.verification.ComputerVerificationStrategy;
 import org.apache.tinkerpop.gremlin.process.traversal.traverser.TraverserRequirement;
+import org.apache.tinkerpop.gremlin.process.traversal.traverser.util.DefaultTraverserGeneratorFactory;
 import org.apache.tinkerpop.gremlin.process.traversal.traverser.util.TraverserSet;
-import org.apache.tinkerpop.gremlin.process.traversal.util.FastNoSuchElementException;
 import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalHelper;
 import org.apache.tinkerpop.gremlin.spark.process.computer.SparkMemory;
 import org.apache.tinkerpop.gremlin.spark.process.computer.traversal.strategy.SparkVertexProgramInterceptor;
+import org.apache.tinkerpop.gremlin.structure.Element;
+import org.apache.tinkerpop.gremlin.structure.Property;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
 import org.apache.tinkerpop.gremlin.structure.util.ElementHelper;
-import org.apache.tinkerpop.gremlin.util.NumberHelper;
-import org.apache.tinkerpop.gremlin.util.function.ArrayListSupplier;
-import org.apache.tinkerpop.gremlin.util.function.MeanNumberSupplier;
+import org.apache.tinkerpop.gremlin.structure.util.detached.DetachedFactory;
+import org.apache.tinkerpop.gremlin.structure.util.reference.ReferenceFactory;
+import org.apache.tinkerpop.gremlin.structure.util.star.StarGraph;
 import org.apache.tinkerpop.gremlin.util.iterator.IteratorUtils;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.function.BinaryOperator;
 
 /**
+ * Evaluates a {@link TraversalVertexProgram} whose traversal never leaves the star graph of a vertex in a single pass
+ * over the graph RDD and without any message passing. The traversal is split at its first global {@link Barrier}.
+ * The steps before the barrier are evaluated against the star graph of each vertex and the barrier reduces the
+ * resultant traversers of each partition with the reducer of its {@code MemoryComputeKey} just as it would on a
+ * worker. The reduced barriers are merged at the driver and the steps from the barrier onward are then evaluated there
+ * as they would be by the master traversal (e.g. {@code order().by("age").limit(10).values("name")} or
+ * {@code groupCount().by(label).unfold().order().by(values)}).
+ *
  * @author Marko A. Rodriguez (http://markorodriguez.com)
  */
 public final class SparkStarBarrierInterceptor implements SparkVertexProgramInterceptor<TraversalVertexProgram> {
@@ -75,113 +101,229 @@ public final class SparkStarBarrierInterceptor implements SparkVertexProgramInte
         final Traversal.Admin<Vertex, Object> traversal = (Traversal.Admin) vertexProgram.getTraversal().getPure().clone();
         final GraphStep<Vertex, Vertex> graphStep = ((GraphStep) traversal.getStartStep());
         final Object[] graphStepIds = graphStep.getIds();    // any V(1,2,3)-style ids to filter on
-        final ReducingBarrierStep endStep = (ReducingBarrierStep) traversal.getEndStep(); // needed for the final traverser generation
+        final HaltedTraverserStrategy haltedTraverserStrategy = vertexProgram.getTraversal().get().getStrategies().getStrategy(HaltedTraverserStrategy.class).orElse(HaltedTraverserStrategy.reference());
+        // no longer a computer job, but parallel standard jobs. path retraction is left off as the labels of the star
+        // traversal may be required by the master traversal which is compiled on its own
+        final TraversalStrategies strategies = traversal.clone().getStrategies().removeStrategies(ComputerVerificationStrategy.class, ComputerFinalizationStrategy.class, PathRetractionStrategy.class);
+        // the star traversal is everything before the first barrier and the master traversal is the barrier and everything after it
+        final int barrierIndex = getBarrierIndex(traversal);
+        final Traversal.Admin<Object, Object> masterTraversal = (Traversal.Admin) traversal.clone();
+        for (int i = 0; i < barrierIndex; i++) {
+            masterTraversal.removeStep(0);
+        }
+        while (traversal.getSteps().size() > barrierIndex) {
+            traversal.removeStep(barrierIndex);
+        }
         traversal.removeStep(0);                                    // remove GraphStep
-        traversal.removeStep(traversal.getSteps().size() - 1);      // remove ReducingBarrierStep
-        traversal.setStrategies(traversal.clone().getStrategies().removeStrategies(ComputerVerificationStrategy.class, ComputerFinalizationStrategy.class)); // no longer a computer job, but parallel standard jobs
+        traversal.setStrategies(strategies);
         traversal.applyStrategies();                                // compile
-        boolean identityTraversal = traversal.getSteps().isEmpty(); // if the traversal is empty, just return the vertex (fast)
+        masterTraversal.setStrategies(strategies);
+        masterTraversal.applyStrategies();
+        final boolean identityTraversal = traversal.getSteps().isEmpty(); // if the traversal is empty, just return the vertex (fast)
+        final Step<Object, Object> masterStep = (Step) masterTraversal.getStartStep();
+        if (masterStep instanceof OrderGlobalStep && masterTraversal.getSteps().size() > 1 && masterTraversal.getSteps().get(1) instanceof RangeGlobalStep) {
+            final long high = ((RangeGlobalStep) masterTraversal.getSteps().get(1)).getHighRange();
+            if (-1 != high)
+                ((OrderGlobalStep) masterStep).setLimit(high);     // each partition only needs to provide its top traversers
+        }
+        final BinaryOperator<Object> reducer = masterStep instanceof Barrier ?
+                ((Barrier<Object>) masterStep).getMemoryComputeKey().getReducer() :
+                (BinaryOperator) Operator.addAll;
+        // the traversers generated at the star graph must meet the requirements of both traversals
+        final Set<TraverserRequirement> requirements = new HashSet<>(traversal.getTraverserRequirements());
+        requirements.addAll(masterTraversal.getTraverserRequirements());
         ///////////////////////////////
         MemoryTraversalSideEffects.setMemorySideEffects(traversal, memory, ProgramPhase.EXECUTE); // any intermediate sideEffect steps are backed by SparkMemory
+        MemoryTraversalSideEffects.setMemorySideEffects(masterTraversal, memory, ProgramPhase.EXECUTE);
         memory.setInExecute(true);
-        final JavaRDD<Traverser.Admin<Object>> nextRDD = inputRDD.values()
+        final JavaRDD<Object> barrierRDD = inputRDD.values()
                 .filter(vertexWritable -> ElementHelper.idExists(vertexWritable.get().id(), graphStepIds)) // ensure vertex ids are in V(x)
-                .flatMap(vertexWritable -> {
-                    if (identityTraversal)                          // g.V.count()-style (identity)
-                        return IteratorUtils.of(traversal.getTraverserGenerator().generate(vertexWritable.get(), (Step) graphStep, 1l));
-                    else {                                          // add the vertex to head of the traversal
-                        final Traversal.Admin<Vertex, ?> clone = traversal.clone(); // need a unique clone for each vertex to isolate the computation
-                        clone.getStartStep().addStart(clone.getTraverserGenerator().generate(vertexWritable.get(), graphStep, 1l));
-                        return (Step) clone.getEndStep();
-                    }
+                .mapPartitions(partition -> {
+                    final TraverserGenerator generator = DefaultTraverserGeneratorFactory.instance().getTraverserGenerator(requirements);
+                    final Iterator<Traverser.Admin<Object>> traversers = IteratorUtils.flatMap(partition, vertexWritable -> {
+                        if (identityTraversal)                      // g.V.count()-style (identity)
+                            return IteratorUtils.of(generator.generate(vertexWritable.get(), (Step) graphStep, 1l));
+                        else {                                      // add the vertex to head of the traversal
+                            final Traversal.Admin<Vertex, Object> clone = traversal.clone(); // need a unique clone for each vertex to isolate the computation
+                            clone.getStartStep().addStart(generator.generate(vertexWritable.get(), graphStep, 1l));
+                            return (Step) clone.getEndStep();
+                        }
+                    });
+                    return reduceBarrier((Step) masterTraversal.clone().getStartStep(), traversers, reducer);
                 });
-        // USE SPARK DSL FOR THE RESPECTIVE END REDUCING BARRIER STEP OF THE TRAVERSAL
-        final Object result;
-        if (endStep instanceof CountGlobalStep)
-            result = nextRDD.map(Traverser::bulk).fold(0L, (a, b) -> a + b);
-        else if (endStep instanceof SumGlobalStep) {
-            result = nextRDD.isEmpty() ? null : nextRDD
-                    .map(traverser -> NumberHelper.mul(traverser.bulk(), (Number) traverser.get()))
-                    .fold(0, NumberHelper::add);
-        } else if (endStep instanceof MeanGlobalStep) {
-            result = nextRDD.isEmpty() ? null : nextRDD
-                    .map(traverser -> new MeanGlobalStep.MeanNumber((Number) traverser.get(), traverser.bulk()))
-                    .fold(MeanNumberSupplier.instance().get(), MeanGlobalStep.MeanNumber::add)
-                    .getFinal();
-        } else if (endStep instanceof MinGlobalStep) {
-            result = nextRDD.isEmpty() ? null : nextRDD
-                    .map(traverser -> (Comparable) traverser.get())
-                    .fold(Double.NaN, NumberHelper::min);
-        } else if (endStep instanceof MaxGlobalStep) {
-            result = nextRDD.isEmpty() ? null : nextRDD
-                    .map(traverser -> (Comparable) traverser.get())
-                    .fold(Double.NaN, NumberHelper::max);
-        } else if (endStep instanceof FoldStep) {
-            final BinaryOperator biOperator = endStep.getBiOperator();
-            result = nextRDD.map(traverser -> {
-                if (endStep.getSeedSupplier() instanceof ArrayListSupplier) {
-                    final List list = new ArrayList<>();
-                    for (long i = 0; i < traverser.bulk(); i++) {
-                        list.add(traverser.get());
-                    }
-                    return list;
-                } else {
-                    return traverser.get();
-                }
-            }).fold(endStep.getSeedSupplier().get(), biOperator::apply);
-        } else if (endStep instanceof GroupStep) {
-            final GroupStep.GroupBiOperator<Object, Object> biOperator = (GroupStep.GroupBiOperator) endStep.getBiOperator();
-            result = ((GroupStep) endStep).generateFinalResult(nextRDD.
-                    mapPartitions(partitions -> {
-                        final GroupStep<Object, Object, Object> clone = (GroupStep) endStep.clone();
-                        return IteratorUtils.map(partitions, clone::projectTraverser);
-                    }).fold(((GroupStep<Object, Object, Object>) endStep).getSeedSupplier().get(), biOperator::apply));
-        } else if (endStep instanceof GroupCountStep) {
-            final GroupCountStep.GroupCountBiOperator<Object> biOperator = GroupCountStep.GroupCountBiOperator.instance();
-            result = nextRDD
-                    .mapPartitions(partitions -> {
-                        final GroupCountStep<Object, Object> clone = (GroupCountStep) endStep.clone();
-                        return IteratorUtils.map(partitions, clone::projectTraverser);
-                    })
-                    .fold(((GroupCountStep<Object, Object>) endStep).getSeedSupplier().get(), biOperator::apply);
-        } else
-            throw new IllegalArgumentException("The end step is an unsupported barrier: " + endStep);
+        final List<Object> barriers = barrierRDD.collect();
         memory.setInExecute(false);
         ///////////////////////////////
 
-        // generate the HALTED_TRAVERSERS for the memory
-        if (result != null) {
-            final TraverserSet<Long> haltedTraversers = new TraverserSet<>();
-            haltedTraversers.add(traversal.getTraverserGenerator().generate(result, endStep, 1l)); // all reducing barrier steps produce a result of bulk 1
-            memory.set(TraversalVertexProgram.HALTED_TRAVERSERS, haltedTraversers);
+        // merge the barriers of the partitions and process the master traversal to generate the HALTED_TRAVERSERS for the memory
+        final TraverserSet<Object> haltedTraversers = new TraverserSet<>();
+        if (!barriers.isEmpty()) {
+            Object barrier = barriers.get(0);
+            for (int i = 1; i < barriers.size(); i++) {
+                barrier = reducer.apply(barrier, barriers.get(i));
+            }
+            if (masterStep instanceof Barrier)
+                ((Barrier<Object>) masterStep).addBarrier(barrier);
+            else {
+                for (final Traverser.Admin<Object> traverser : (TraverserSet<Object>) barrier) {
+                    traverser.setSideEffects(masterTraversal.getSideEffects());
+                    if (masterTraversal.getSteps().isEmpty())
+                        haltedTraversers.add(haltedTraverserStrategy.halt(traverser));
+                    else
+                        masterStep.addStart(traverser);
+                }
+            }
         }
+        if (!masterTraversal.getSteps().isEmpty())
+            masterTraversal.getEndStep().forEachRemaining(traverser -> haltedTraversers.add(haltedTraverserStrategy.halt(traverser)));
+        memory.set(TraversalVertexProgram.HALTED_TRAVERSERS, haltedTraversers);
         memory.incrIteration(); // any local star graph reduction takes a single iteration
         return inputRDD;
     }
 
+    private static Iterator<Object> reduceBarrier(final Step<Object, Object> step, final Iterator<Traverser.Admin<Object>> traversers, final BinaryOperator<Object> reducer) {
+        if (!(step instanceof Barrier)) {
+            // the traversers are detached and gathered as they would be at the master traversal
+            final TraverserSet<Object> traverserSet = new TraverserSet<>();
+            traversers.forEachRemaining(traverser -> traverserSet.add(detach(traverser)));
+            return traverserSet.isEmpty() ? Collections.emptyIterator() : IteratorUtils.of(traverserSet);
+        }
+        final Barrier<Object> barrierStep = (Barrier<Object>) step;
+        if (step instanceof RangeGlobalStep && -1 != ((RangeGlobalStep) step).getHighRange())
+            step.addStarts(limit(traversers, ((RangeGlobalStep) step).getHighRange())); // no partition has to provide more than the high range
+        else
+            step.addStarts(traversers);
+        Object barrier = null;
+        while (barrierStep.hasNextBarrier()) {
+            final Object next = barrierStep.nextBarrier();
+            barrier = null == barrier ? next : reducer.apply(barrier, next);
+        }
+        if (null == barrier)
+            return Collections.emptyIterator();
+        if (step instanceof OrderGlobalStep)  // trims the ordered traversers to the limit of the step
+            barrier = reducer.apply(new TraverserSet<>(), barrier);
+        return IteratorUtils.of(detachBarrier(barrier));
+    }
+
+    private static Object detachBarrier(final Object barrier) {
+        // the barrier is formed against the star graph and its elements must be detached before leaving the partition
+        if (barrier instanceof TraverserSet) {
+            final TraverserSet<Object> traverserSet = new TraverserSet<>();
+            for (final Traverser.Admin<Object> traverser : (TraverserSet<Object>) barrier) {
+                traverserSet.add(detach(traverser));
+            }
+            return traverserSet;
+        } else
+            return detach(barrier);
+    }
+
+    private static Traverser.Admin<Object> detach(final Traverser.Admin<Object> traverser) {
+        final Object object = detach(traverser.get());
+        traverser.detach();                 // the path is referenced as it is when traversers are sent between vertices
+        traverser.set(object);              // but the properties of the object remain available to the master traversal
+        return traverser;
+    }
+
+    private static Object detach(final Object object) {
+        // the adjacent vertices of a star graph only have an id whereas the other elements carry their properties
+        if (object instanceof StarGraph.StarAdjacentVertex)
+            return ReferenceFactory.detach((Vertex) object);
+        else if (object instanceof Element || object instanceof Property)
+            return DetachedFactory.detach(object, true);
+        else if (object instanceof Path)
+            return ReferenceFactory.detach((Path) object);
+        else if (object instanceof BulkSet) {
+            final BulkSet<Object> bulkSet = new BulkSet<>();
+            ((BulkSet<Object>) object).forEach((item, bulk) -> bulkSet.add(detach(item), bulk));
+            return bulkSet;
+        } else if (object instanceof List) {
+            final List<Object> list = new ArrayList<>(((List) object).size());
+            for (final Object item : (List<Object>) object) {
+                list.add(detach(item));
+            }
+            return list;
+        } else if (object instanceof Set) {
+            final Set<Object> set = new LinkedHashSet<>();
+            for (final Object item : (Set<Object>) object) {
+                set.add(detach(item));
+            }
+            return set;
+        } else if (object instanceof Map) {
+            final Map<Object, Object> map = object instanceof Tree ? (Map) new Tree<>() : new LinkedHashMap<>();
+            for (final Map.Entry<Object, Object> entry : ((Map<Object, Object>) object).entrySet()) {
+                map.put(detach(entry.getKey()), detach(entry.getValue()));
+            }
+            return map;
+        } else
+            return object;
+    }
+
+    private static Iterator<Traverser.Admin<Object>> limit(final Iterator<Traverser.Admin<Object>> traversers, final long high) {
+        return new Iterator<Traverser.Admin<Object>>() {
+            private long count = 0l;
+
+            @Override
+            public boolean hasNext() {
+                return this.count < high && traversers.hasNext();
+            }
+
+            @Override
+            public Traverser.Admin<Object> next() {
+                final Traverser.Admin<Object> traverser = traversers.next();
+                this.count = this.count + traverser.bulk();
+                return traverser;
+            }
+        };
+    }
+
+    private static int getBarrierIndex(final Traversal.Admin<?, ?> traversal) {
+        final List<Step> steps = traversal.getSteps();
+        for (int i = 0; i < steps.size(); i++) {
+            if (steps.get(i) instanceof Barrier && !(steps.get(i) instanceof LocalBarrier))
+                return i;
+        }
+        return steps.size();
+    }
+
+    private static boolean isMasterStep(final Step<?, ?> step) {
+        // the master traversal only has the detached elements and the side-effects computed by the star traversal
+        return !(step instanceof VertexStep ||
+                step instanceof EdgeVertexStep ||
+                step instanceof EdgeOtherVertexStep ||
+                step instanceof GraphStep ||
+                step instanceof SideEffectCapable ||
+                step instanceof SupplyingBarrierStep ||
+                step instanceof LambdaHolder ||
+                step instanceof Mutating);
+    }
+
     public static boolean isLegal(final Traversal.Admin<?, ?> traversal) {
         final Step<?, ?> startStep = traversal.getStartStep();
-        final Step<?, ?> endStep = traversal.getEndStep();
         // right now this is not supported because of how the SparkStarBarrierInterceptor mutates the traversal prior to local evaluation
         if (traversal.getStrategies().toList().stream().filter(strategy -> strategy instanceof SubgraphStrategy).findAny().isPresent())
             return false;
         if (!startStep.getClass().equals(GraphStep.class) || ((GraphStep) startStep).returnsEdge())
             return false;
-        if (!endStep.getClass().equals(CountGlobalStep.class) &&
-                !endStep.getClass().equals(SumGlobalStep.class) &&
-                !endStep.getClass().equals(MeanGlobalStep.class) &&
-                !endStep.getClass().equals(MaxGlobalStep.class) &&
-                !endStep.getClass().equals(MinGlobalStep.class) &&
-                !endStep.getClass().equals(FoldStep.class) &&
-                !endStep.getClass().equals(GroupStep.class) &&
-                !endStep.getClass().equals(GroupCountStep.class))
-            // TODO: tree()
+        // without a barrier the traversers halt at their vertices and are best left there
+        final int barrierIndex = getBarrierIndex(traversal);
+        if (barrierIndex == traversal.getSteps().size())
             return false;
-        if (TraversalHelper.getStepsOfAssignableClassRecursively(Scope.global, Barrier.class, traversal).size() != 1)
+        // the star traversal must not contain a barrier that requires all traversers and neither may the master traversal
+        for (final Barrier<?> barrier : TraversalHelper.getStepsOfAssignableClassRecursively(Scope.global, Barrier.class, traversal)) {
+            if (!(barrier instanceof LocalBarrier) && ((Step) barrier).getTraversal() != traversal)
+                return false;
+        }
+        final Step<?, ?> barrierStep = traversal.getSteps().get(barrierIndex);
+        if (barrierStep instanceof SideEffectCapable || barrierStep instanceof SupplyingBarrierStep ||
+                (barrierStep instanceof TraversalParent && TraversalHelper.anyStepRecursively(step -> step instanceof SideEffectCapable, (TraversalParent) barrierStep)))
             return false;
+        for (final Step<?, ?> step : traversal.getSteps().subList(barrierIndex + 1, traversal.getSteps().size())) {
+            if (!isMasterStep(step) ||
+                    (step instanceof TraversalParent && TraversalHelper.anyStepRecursively(s -> !isMasterStep(s), (TraversalParent) step)))
+                return false;
+        }
         if (traversal.getTraverserRequirements().contains(TraverserRequirement.SACK))
             return false;
         return TraversalHelper.isLocalStarGraph(traversal);
     }
 }
-
@@ -0,0 +1,128 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.spark.process.computer.partitioner;
+
+import org.apache.commons.configuration.Configuration;
+import org.apache.spark.HashPartitioner;
+import org.apache.spark.Partitioner;
+import org.apache.spark.api.java.JavaPairRDD;
+import org.apache.spark.api.java.JavaSparkContext;
+import org.apache.tinkerpop.gremlin.TestHelper;
+import org.apache.tinkerpop.gremlin.hadoop.Constants;
+import org.apache.tinkerpop.gremlin.hadoop.structure.io.VertexWritable;
+import org.apache.tinkerpop.gremlin.process.computer.ComputerResult;
+import org.apache.tinkerpop.gremlin.process.computer.GraphComputer;
+import org.apache.tinkerpop.gremlin.process.computer.ranking.pagerank.PageRankVertexProgram;
+import org.apache.tinkerpop.gremlin.spark.AbstractSparkTest;
+import org.apache.tinkerpop.gremlin.spark.process.computer.SparkGraphComputer;
+import org.apache.tinkerpop.gremlin.spark.structure.Spark;
+import org.apache.tinkerpop.gremlin.spark.structure.io.PersistedOutputRDD;
+import org.apache.tinkerpop.gremlin.spark.structure.io.ToyGraphInputRDD;
+import org.apache.tinkerpop.gremlin.structure.Direction;
+import org.apache.tinkerpop.gremlin.structure.Edge;
+import org.apache.tinkerpop.gremlin.structure.Graph;
+import org.apache.tinkerpop.gremlin.structure.util.GraphFactory;
+import org.junit.Test;
+import scala.Tuple2;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author Stephen Mallette (http://stephen.genoprime.com)
+ */
+public class LinearDeterministicGreedyPartitionerTest extends AbstractSparkTest {
+
+    @Test
+    public void shouldCutFewerEdgesThanHashPartitioning() {
+        final Configuration configuration = getBaseConfiguration();
+        configuration.setProperty(Constants.GREMLIN_HADOOP_INPUT_LOCATION, "grateful");
+        final JavaSparkContext sparkContext = JavaSparkContext.fromSparkContext(Spark.create(configuration));
+        final JavaPairRDD<Object, VertexWritable> graphRDD = new ToyGraphInputRDD().readGraphRDD(configuration, sparkContext);
+
+        final Partitioner partitioner = new LinearDeterministicGreedyPartitioner().createPartitioner(graphRDD, 4, configuration);
+        assertEquals(4, partitioner.numPartitions());
+
+        // the partitions stay within the allowed imbalance
+        final List<Tuple2<Integer, Integer>> sizes = graphRDD.partitionBy(partitioner).mapPartitionsWithIndex((index, vertices) -> {
+            int size = 0;
+            while (vertices.hasNext()) {
+                vertices.next();
+                size++;
+            }
+            return Collections.singletonList(new Tuple2<>(index, size)).iterator();
+        }, true).collect();
+        final long vertexCount = graphRDD.count();
+        final long capacity = LinearDeterministicGreedyPartitioner.getCapacity(vertexCount, 4, 0.05d);
+        assertEquals(213, capacity);
+        for (final Tuple2<Integer, Integer> size : sizes) {
+            assertTrue(size._2() <= capacity);
+        }
+
+        final long hashCut = countCutEdges(graphRDD, new HashPartitioner(4));
+        final long greedyCut = countCutEdges(graphRDD, partitioner);
+        assertTrue("greedy cut " + greedyCut + " should be less than hash cut " + hashCut, greedyCut < hashCut);
+    }
+
+    @Test
+    public void shouldComputeSameResultAsHashPartitioning() throws Exception {
+        final Map<Object, Double> hashRanks = computePageRank(HashGraphPartitioner.class, "shouldComputeSameResultAsHashPartitioning-hash");
+        final Map<Object, Double> greedyRanks = computePageRank(LinearDeterministicGreedyPartitioner.class, "shouldComputeSameResultAsHashPartitioning-greedy");
+        assertEquals(hashRanks.size(), greedyRanks.size());
+        for (final Map.Entry<Object, Double> entry : hashRanks.entrySet()) {
+            assertEquals(entry.getValue(), greedyRanks.get(entry.getKey()), 0.0000001d);
+        }
+    }
+
+    private Map<Object, Double> computePageRank(final Class<? extends GraphPartitioner> graphPartitioner, final String name) throws Exception {
+        final Configuration configuration = getBaseConfiguration();
+        configuration.setProperty(Constants.GREMLIN_HADOOP_INPUT_LOCATION, "modern");
+        configuration.setProperty(Constants.GREMLIN_HADOOP_GRAPH_READER, ToyGraphInputRDD.class.getCanonicalName());
+        configuration.setProperty(Constants.GREMLIN_HADOOP_GRAPH_WRITER, PersistedOutputRDD.class.getCanonicalName());
+        configuration.setProperty(Constants.GREMLIN_HADOOP_OUTPUT_LOCATION, TestHelper.makeTestDataDirectory(LinearDeterministicGreedyPartitionerTest.class, name));
+        configuration.setProperty(Constants.GREMLIN_SPARK_PERSIST_CONTEXT, true);
+        final Graph graph = GraphFactory.open(configuration);
+        final ComputerResult result = graph.compute(SparkGraphComputer.class)
+                .graphPartitioner(graphPartitioner)
+                .workers(3)
+                .persist(GraphComputer.Persist.VERTEX_PROPERTIES)
+                .program(PageRankVertexProgram.build().iterations(5).create(graph)).submit().get();
+        final Map<Object, Double> ranks = new HashMap<>();
+        result.graph().traversal().V().forEachRemaining(vertex -> ranks.put(vertex.id(), vertex.value(PageRankVertexProgram.PAGE_RANK)));
+        return ranks;
+    }
+
+    private static long countCutEdges(final JavaPairRDD<Object, VertexWritable> graphRDD, final Partitioner partitioner) {
+        return graphRDD.map(tuple -> {
+            long cut = 0;
+            final Iterator<Edge> edges = tuple._2().get().edges(Direction.OUT);
+            while (edges.hasNext()) {
+                if (partitioner.getPartition(tuple._1()) != partitioner.getPartition(edges.next().inVertex().id()))
+                    cut++;
+            }
+            return cut;
+        }).reduce(Long::sum);
+    }
+}
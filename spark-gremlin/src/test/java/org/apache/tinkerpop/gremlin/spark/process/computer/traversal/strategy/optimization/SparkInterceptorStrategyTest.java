@@ -26,6 +26,7 @@ import org.apache.tinkerpop.gremlin.hadoop.structure.io.gryo.GryoInputFormat;
 import org.apache.tinkerpop.gremlin.process.computer.traversal.step.map.TraversalVertexProgramStep;
 import org.apache.tinkerpop.gremlin.process.computer.traversal.strategy.VertexProgramInterceptor;
 import org.apache.tinkerpop.gremlin.process.traversal.Operator;
+import org.apache.tinkerpop.gremlin.process.traversal.Order;
 import org.apache.tinkerpop.gremlin.process.traversal.P;
 import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
 import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversalSource;
@@ -36,12 +37,14 @@ import org.apache.tinkerpop.gremlin.spark.process.computer.SparkGraphComputer;
 import org.apache.tinkerpop.gremlin.spark.process.computer.SparkHadoopGraphProvider;
 import org.apache.tinkerpop.gremlin.spark.process.computer.traversal.strategy.optimization.interceptor.SparkStarBarrierInterceptor;
 import org.apache.tinkerpop.gremlin.spark.structure.io.PersistedOutputRDD;
+import org.apache.tinkerpop.gremlin.structure.Column;
 import org.apache.tinkerpop.gremlin.structure.Graph;
 import org.apache.tinkerpop.gremlin.structure.T;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
 import org.apache.tinkerpop.gremlin.structure.util.GraphFactory;
 import org.junit.Test;
 
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
@@ -135,6 +138,21 @@ public class SparkInterceptorStrategyTest extends AbstractSparkTest {
             put("person", 4l);
         }}, g.V().<String, Long>group().by(T.label).by(__.count()));
         test(SparkStarBarrierInterceptor.class, 123l, g.V().hasLabel("person").values("age").fold(0l, Operator.sum));
+        test(SparkStarBarrierInterceptor.class, 6l, g.V().dedup().count());
+        test(SparkStarBarrierInterceptor.class, 4l, g.V().out().dedup().count());
+        test(SparkStarBarrierInterceptor.class, 4l, g.V().hasLabel("person").order().by("age").count());
+        test(SparkStarBarrierInterceptor.class, 1l, g.V().count().count());
+        test(SparkStarBarrierInterceptor.class, 2l, g.V().limit(2).count());
+        test(SparkStarBarrierInterceptor.class, 3l, g.V().tail(3).count());
+        test(SparkStarBarrierInterceptor.class, Arrays.asList(35, 32, 29, 27), g.V().hasLabel("person").values("age").order().by(Order.desc).fold());
+        test(SparkStarBarrierInterceptor.class, Arrays.asList("vadas", "marko"), g.V().has("age").order().by("age").limit(2).values("name").fold());
+        test(SparkStarBarrierInterceptor.class, "josh", g.V().as("v").values("name").as("n").select("v").order().by("name").limit(1).values("name"));
+        test(SparkStarBarrierInterceptor.class, new HashMap<String, Object>() {{
+            put("name", "marko");
+            put("degree", 3l);
+        }}, g.V().project("name", "degree").by("name").by(__.outE().count()).order().by(__.select("degree"), Order.desc).limit(1));
+        test(SparkStarBarrierInterceptor.class, 2l, g.V().dedup().by(T.label).count());
+        test(SparkStarBarrierInterceptor.class, 6l, g.V().groupCount().by(T.label).select(Column.values).unfold().sum());
         /// No interceptor matches
         test(2l, g.V().out().out().count());
         test(6l, g.E().count());
@@ -143,11 +161,8 @@ public class SparkInterceptorStrategyTest extends AbstractSparkTest {
         test(2l, g.V().out("knows").values("name").count());
         test(3l, g.V().in().has("name", "marko").count());
         test(0l, g.V().repeat(__.dedup()).times(2).count());
-        test(6l, g.V().dedup().count());
-        test(4l, g.V().hasLabel("person").order().by("age").count());
-        test(1l, g.V().count().count());
-        test(2l, g.V().limit(2).count());
-        test(3l, g.V().tail(3).count());
+        test(5l, g.V().hasLabel("person").order().by("age").limit(3).out().count());
+        test("marko", g.V().has("name", "marko").values("name"));
     }
 
     private static <R> void test(Class<? extends VertexProgramInterceptor> expectedInterceptor, R expectedResult, final Traversal<?, R> traversal) throws Exception {
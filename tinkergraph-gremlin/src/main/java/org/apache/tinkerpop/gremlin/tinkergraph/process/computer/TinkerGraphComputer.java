@@ -23,11 +23,14 @@ import org.apache.tinkerpop.gremlin.process.computer.ComputerResult;
 import org.apache.tinkerpop.gremlin.process.computer.GraphComputer;
 import org.apache.tinkerpop.gremlin.process.computer.GraphFilter;
 import org.apache.tinkerpop.gremlin.process.computer.MapReduce;
+import org.apache.tinkerpop.gremlin.process.computer.Memory;
+import org.apache.tinkerpop.gremlin.process.computer.MemoryComputeKey;
 import org.apache.tinkerpop.gremlin.process.computer.VertexProgram;
 import org.apache.tinkerpop.gremlin.process.computer.traversal.strategy.optimization.GraphFilterStrategy;
 import org.apache.tinkerpop.gremlin.process.computer.util.ComputerGraph;
 import org.apache.tinkerpop.gremlin.process.computer.util.DefaultComputerResult;
 import org.apache.tinkerpop.gremlin.process.computer.util.GraphComputerHelper;
+import org.apache.tinkerpop.gremlin.process.traversal.Operator;
 import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
 import org.apache.tinkerpop.gremlin.process.traversal.TraversalStrategies;
 import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalInterruptedException;
@@ -62,17 +65,25 @@ public final class TinkerGraphComputer implements GraphComputer {
                 TraversalStrategies.GlobalCache.getStrategies(GraphComputer.class).clone().removeStrategies(GraphFilterStrategy.class));
     }
 
+    /**
+     * Configuration key that when set to {@code true} with {@link #configure(String, Object)} records the time in
+     * milliseconds that each worker was busy as a {@code List<Long>} in the {@link Memory} of the
+     * {@link ComputerResult} under the same key. Workers that finish well ahead of the others indicate that the
+     * work of the job is not evenly spread.
+     */
+    public static final String GREMLIN_TINKERGRAPH_COMPUTER_WORKER_TIMES = "gremlin.tinkergraph.computer.workerTimes";
+
     private ResultGraph resultGraph = null;
     private Persist persist = null;
 
     private VertexProgram<?> vertexProgram;
     private final TinkerGraph graph;
     private TinkerMemory memory;
-    private final TinkerMessageBoard messageBoard = new TinkerMessageBoard();
     private boolean executed = false;
     private final Set<MapReduce> mapReducers = new HashSet<>();
     private int workers = Runtime.getRuntime().availableProcessors();
     private final GraphFilter graphFilter = new GraphFilter();
+    private boolean recordWorkerTimes = false;
 
     private final ThreadFactory threadFactoryBoss = new BasicThreadFactory.Builder().namingPattern(TinkerGraphComputer.class.getSimpleName() + "-boss").build();
 
@@ -116,6 +127,13 @@ public final class TinkerGraphComputer implements GraphComputer {
         return this;
     }
 
+    @Override
+    public GraphComputer configure(final String key, final Object value) {
+        if (GREMLIN_TINKERGRAPH_COMPUTER_WORKER_TIMES.equals(key))
+            this.recordWorkerTimes = Boolean.parseBoolean(value.toString());
+        return this;
+    }
+
     @Override
     public GraphComputer vertices(final Traversal<Vertex, Vertex> vertexFilter) {
         this.graphFilter.setVertexFilter(vertexFilter);
@@ -154,32 +172,39 @@ public final class TinkerGraphComputer implements GraphComputer {
 
         // initialize the memory
         this.memory = new TinkerMemory(this.vertexProgram, this.mapReducers);
+        if (this.recordWorkerTimes)
+            this.memory.memoryKeys.put(GREMLIN_TINKERGRAPH_COMPUTER_WORKER_TIMES, MemoryComputeKey.of(GREMLIN_TINKERGRAPH_COMPUTER_WORKER_TIMES, Operator.assign, false, false));
         final Future<ComputerResult> result = computerService.submit(() -> {
             final long time = System.currentTimeMillis();
             final TinkerGraphComputerView view = TinkerHelper.createGraphComputerView(this.graph, this.graphFilter, null != this.vertexProgram ? this.vertexProgram.getVertexComputeKeys() : Collections.emptySet());
             final TinkerWorkerPool workers = new TinkerWorkerPool(this.graph, this.memory, this.workers);
             try {
                 if (null != this.vertexProgram) {
+                    final TinkerMessageBoard messageBoard = new TinkerMessageBoard(view, this.vertexProgram.getMessageCombiner(), this.vertexProgram.isMessageDriven());
                     // execute the vertex program
                     this.vertexProgram.setup(this.memory);
                     while (true) {
                         if (Thread.interrupted()) throw new TraversalInterruptedException();
                         this.memory.completeSubRound();
                         workers.setVertexProgram(this.vertexProgram);
-                        workers.executeVertexProgram((vertices, vertexProgram, workerMemory) -> {
+                        // a message-driven program only needs to execute the vertices that were sent messages or kept active
+                        final boolean[] frontier = this.memory.isInitialIteration() ? null : messageBoard.getFrontier();
+                        workers.executeVertexProgram(frontier, (vertices, vertexProgram, workerMemory) -> {
+                            final TinkerMessageBoard.Outbox outbox = messageBoard.takeOutbox();
                             vertexProgram.workerIterationStart(workerMemory.asImmutable());
                             while (vertices.hasNext()) {
                                 final Vertex vertex = vertices.next();
                                 if (Thread.interrupted()) throw new TraversalInterruptedException();
                                 vertexProgram.execute(
                                         ComputerGraph.vertexProgram(vertex, vertexProgram),
-                                        new TinkerMessenger<>(vertex, this.messageBoard, vertexProgram.getMessageCombiner()),
+                                        new TinkerMessenger<>(vertex, messageBoard, outbox),
                                         workerMemory);
                             }
                             vertexProgram.workerIterationEnd(workerMemory.asImmutable());
                             workerMemory.complete();
+                            messageBoard.offerOutbox(outbox);
                         });
-                        this.messageBoard.completeIteration();
+                        messageBoard.completeIteration();
                         this.memory.completeSubRound();
                         if (this.vertexProgram.terminate(this.memory)) {
                             this.memory.incrIteration();
@@ -194,15 +219,12 @@ public final class TinkerGraphComputer implements GraphComputer {
                 // execute mapreduce jobs
                 for (final MapReduce mapReduce : mapReducers) {
                     final TinkerMapEmitter<?, ?> mapEmitter = new TinkerMapEmitter<>(mapReduce.doStage(MapReduce.Stage.REDUCE));
-                    final SynchronizedIterator<Vertex> vertices = new SynchronizedIterator<>(this.graph.vertices());
                     workers.setMapReduce(mapReduce);
-                    workers.executeMapReduce(workerMapReduce -> {
+                    workers.executeMapReduce((vertices, workerMapReduce) -> {
                         workerMapReduce.workerStart(MapReduce.Stage.MAP);
-                        while (true) {
+                        while (vertices.hasNext()) {
                             if (Thread.interrupted()) throw new TraversalInterruptedException();
-                            final Vertex vertex = vertices.next();
-                            if (null == vertex) break;
-                            workerMapReduce.map(ComputerGraph.mapReduce(vertex), mapEmitter);
+                            workerMapReduce.map(ComputerGraph.mapReduce(vertices.next()), mapEmitter);
                         }
                         workerMapReduce.workerEnd(MapReduce.Stage.MAP);
                     });
@@ -229,6 +251,9 @@ public final class TinkerGraphComputer implements GraphComputer {
                         mapReduce.addResultToMemory(this.memory, mapEmitter.mapQueue.iterator());
                     }
                 }
+                if (this.recordWorkerTimes)
+                    this.memory.set(GREMLIN_TINKERGRAPH_COMPUTER_WORKER_TIMES, workers.getWorkerTimes());
+
                 // update runtime and return the newly computed graph
                 this.memory.setRuntime(System.currentTimeMillis() - time);
                 this.memory.complete(); // drop all transient properties and set iteration
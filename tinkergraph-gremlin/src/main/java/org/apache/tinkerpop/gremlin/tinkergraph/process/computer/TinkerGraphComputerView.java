@@ -22,7 +22,6 @@ import org.apache.tinkerpop.gremlin.process.computer.GraphComputer;
 import org.apache.tinkerpop.gremlin.process.computer.GraphFilter;
 import org.apache.tinkerpop.gremlin.process.computer.VertexComputeKey;
 import org.apache.tinkerpop.gremlin.structure.Edge;
-import org.apache.tinkerpop.gremlin.structure.Element;
 import org.apache.tinkerpop.gremlin.structure.Graph;
 import org.apache.tinkerpop.gremlin.structure.Property;
 import org.apache.tinkerpop.gremlin.structure.T;
@@ -30,6 +29,7 @@ import org.apache.tinkerpop.gremlin.structure.Vertex;
 import org.apache.tinkerpop.gremlin.structure.VertexProperty;
 import org.apache.tinkerpop.gremlin.structure.util.ElementHelper;
 import org.apache.tinkerpop.gremlin.structure.util.empty.EmptyGraph;
+import org.apache.tinkerpop.gremlin.structure.util.wrapped.WrappedVertex;
 import org.apache.tinkerpop.gremlin.tinkergraph.structure.TinkerGraph;
 import org.apache.tinkerpop.gremlin.tinkergraph.structure.TinkerHelper;
 import org.apache.tinkerpop.gremlin.tinkergraph.structure.TinkerVertex;
@@ -41,8 +41,8 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
-import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * @author Marko A. Rodriguez (http://markorodriguez.com)
@@ -51,17 +51,27 @@ public final class TinkerGraphComputerView {
 
     private final TinkerGraph graph;
     protected final Map<String, VertexComputeKey> computeKeys;
-    private Map<Element, Map<String, List<VertexProperty<?>>>> computeProperties;
+    private final Map<String, ComputeColumn> computeColumns = new HashMap<>();
     private final Set<Object> legalVertices = new HashSet<>();
     private final Map<Object, Set<Object>> legalEdges = new HashMap<>();
     private final GraphFilter graphFilter;
+    private final TinkerVertex[] vertices;
 
     public TinkerGraphComputerView(final TinkerGraph graph, final GraphFilter graphFilter, final Set<VertexComputeKey> computeKeys) {
         this.graph = graph;
         this.computeKeys = new HashMap<>();
         computeKeys.forEach(key -> this.computeKeys.put(key.getKey(), key));
-        this.computeProperties = new ConcurrentHashMap<>();
         this.graphFilter = graphFilter;
+
+        // assign each vertex a dense ordinal so that per-vertex state of the computation can be held in arrays
+        this.vertices = new TinkerVertex[TinkerHelper.getVertices(graph).size()];
+        int ordinal = 0;
+        for (final Vertex vertex : TinkerHelper.getVertices(graph).values()) {
+            TinkerHelper.setOrdinal((TinkerVertex) vertex, ordinal);
+            this.vertices[ordinal++] = (TinkerVertex) vertex;
+        }
+        computeKeys.forEach(key -> this.computeColumns.put(key.getKey(), new ComputeColumn(key.getKey(), this.vertices.length)));
+
         if (this.graphFilter.hasFilter()) {
             graph.vertices().forEachRemaining(vertex -> {
                 boolean legalVertex = false;
@@ -81,14 +91,9 @@ public final class TinkerGraphComputerView {
     public <V> Property<V> addProperty(final TinkerVertex vertex, final String key, final V value) {
         ElementHelper.validateProperty(key, value);
         if (isComputeKey(key)) {
-            final TinkerVertexProperty<V> property = new TinkerVertexProperty<V>((TinkerVertex) vertex, key, value) {
-                @Override
-                public void remove() {
-                    removeProperty(vertex, key, this);
-                }
-            };
-            this.addValue(vertex, key, property);
-            return property;
+            final ComputeColumn column = this.computeColumns.get(key);
+            if (null == column) throw GraphComputer.Exceptions.providedKeyIsNotAnElementComputeKey(key);
+            return column.add(vertex, value);
         } else {
             throw GraphComputer.Exceptions.providedKeyIsNotAnElementComputeKey(key);
         }
@@ -96,7 +101,8 @@ public final class TinkerGraphComputerView {
 
     public List<VertexProperty<?>> getProperty(final TinkerVertex vertex, final String key) {
         // if the vertex property is already on the vertex, use that.
-        final List<VertexProperty<?>> vertexProperty = this.getValue(vertex, key);
+        final ComputeColumn column = this.computeColumns.get(key);
+        final List<VertexProperty<?>> vertexProperty = null == column ? Collections.emptyList() : column.get(vertex);
         return vertexProperty.isEmpty() ? (List) TinkerHelper.getProperties(vertex).getOrDefault(key, Collections.emptyList()) : vertexProperty;
         //return isComputeKey(key) ? this.getValue(vertex, key) : (List) TinkerHelper.getProperties(vertex).getOrDefault(key, Collections.emptyList());
     }
@@ -106,20 +112,49 @@ public final class TinkerGraphComputerView {
         for (final List<VertexProperty> properties : TinkerHelper.getProperties(vertex).values()) {
             list.addAll(properties);
         }
-        for (final List<VertexProperty<?>> properties : this.computeProperties.getOrDefault(vertex, Collections.emptyMap()).values()) {
-            list.addAll(properties);
+        for (final ComputeColumn column : this.computeColumns.values()) {
+            list.addAll(column.get(vertex));
         }
         return list;
     }
 
     public void removeProperty(final TinkerVertex vertex, final String key, final VertexProperty property) {
         if (isComputeKey(key)) {
-            this.removeValue(vertex, key, property);
+            final ComputeColumn column = this.computeColumns.get(key);
+            if (null != column) column.remove(vertex, property);
         } else {
             throw GraphComputer.Exceptions.providedKeyIsNotAnElementComputeKey(key);
         }
     }
 
+    /**
+     * Gets the number of vertices in the graph being computed over which is also the bound of the vertex ordinals.
+     */
+    public int getVertexCount() {
+        return this.vertices.length;
+    }
+
+    /**
+     * Gets the vertex with the specified ordinal.
+     */
+    public TinkerVertex getVertex(final int ordinal) {
+        return this.vertices[ordinal];
+    }
+
+    /**
+     * Gets the ordinal of a vertex of the graph being computed over. Vertices that are not {@link TinkerVertex}
+     * instances of the graph are resolved by their identifier. Returns {@code -1} if the vertex is not in the graph.
+     */
+    public int getOrdinal(final Vertex vertex) {
+        if (vertex instanceof TinkerVertex && vertex.graph() == this.graph)
+            return TinkerHelper.getOrdinal((TinkerVertex) vertex);
+        else if (vertex instanceof WrappedVertex)
+            return getOrdinal((Vertex) ((WrappedVertex) vertex).getBaseVertex());
+
+        final Vertex v = TinkerHelper.getVertices(this.graph).get(vertex.id());
+        return null == v ? -1 : TinkerHelper.getOrdinal((TinkerVertex) v);
+    }
+
     public boolean legalVertex(final Vertex vertex) {
         return !this.graphFilter.hasVertexFilter() || this.legalVertices.contains(vertex.id());
     }
@@ -131,11 +166,8 @@ public final class TinkerGraphComputerView {
     protected void complete() {
         // remove all transient properties from the vertices
         for (final VertexComputeKey computeKey : this.computeKeys.values()) {
-            if (computeKey.isTransient()) {
-                for (final Map<String, List<VertexProperty<?>>> properties : this.computeProperties.values()) {
-                    properties.remove(computeKey.getKey());
-                }
-            }
+            if (computeKey.isTransient())
+                this.computeColumns.remove(computeKey.getKey());
         }
     }
 
@@ -193,17 +225,17 @@ public final class TinkerGraphComputerView {
 
     private void addPropertiesToOriginalGraph() {
         TinkerHelper.dropGraphComputerView(this.graph);
-        this.computeProperties.forEach((element, properties) -> {
-            properties.forEach((key, vertexProperties) -> {
-                vertexProperties.forEach(vertexProperty -> {
-                    final VertexProperty<?> newVertexProperty = ((Vertex) element).property(VertexProperty.Cardinality.list, vertexProperty.key(), vertexProperty.value(), T.id, vertexProperty.id());
+        for (final TinkerVertex vertex : this.vertices) {
+            for (final ComputeColumn column : this.computeColumns.values()) {
+                column.get(vertex).forEach(vertexProperty -> {
+                    final VertexProperty<?> newVertexProperty = vertex.property(VertexProperty.Cardinality.list, vertexProperty.key(), vertexProperty.value(), T.id, vertexProperty.id());
                     vertexProperty.properties().forEachRemaining(property -> {
                         newVertexProperty.property(property.key(), property.value());
                     });
                 });
-            });
-        });
-        this.computeProperties.clear();
+            }
+        }
+        this.computeColumns.clear();
     }
 
     //////////////////////
@@ -212,20 +244,197 @@ public final class TinkerGraphComputerView {
         return this.computeKeys.containsKey(key);
     }
 
-    private void addValue(final Vertex vertex, final String key, final VertexProperty property) {
-        final Map<String, List<VertexProperty<?>>> elementProperties = this.computeProperties.computeIfAbsent(vertex, k -> new HashMap<>());
-        elementProperties.compute(key, (k, v) -> {
-            if (null == v) v = new ArrayList<>();
-            v.add(property);
-            return v;
-        });
+    /**
+     * Holds the values of one {@link VertexComputeKey} in arrays indexed by vertex ordinal. A slot holds the raw value
+     * of a single property without meta-properties, which is kept in a primitive array if the key holds only
+     * {@code Double} or {@code Long} values. {@link VertexProperty} objects are only created when the value is read.
+     * Slots holding several properties or properties with meta-properties keep them in a {@link PropertyList}. A slot
+     * is only ever written by the worker executing its vertex so no locking is required beyond choosing the storage
+     * of the column when its first value is written.
+     */
+    private static final class ComputeColumn {
+        private static final byte ABSENT = 0;
+        private static final byte PRIMITIVE = 1;
+        private static final byte OBJECT = 2;
+
+        private final String key;
+        private final byte[] states;
+        private double[] doubles;
+        private long[] longs;
+        private volatile Object[] objects;
+        private volatile Class<?> primitiveType;
+        private volatile boolean initialized = false;
+
+        private ComputeColumn(final String key, final int vertexCount) {
+            this.key = key;
+            this.states = new byte[vertexCount];
+        }
+
+        private <V> VertexProperty<V> add(final TinkerVertex vertex, final V value) {
+            final int ordinal = TinkerHelper.getOrdinal(vertex);
+            if (ABSENT == this.states[ordinal]) {
+                if (!this.initialized) initialize(value);
+                if (Double.class == this.primitiveType && value instanceof Double) {
+                    this.doubles[ordinal] = (Double) value;
+                    this.states[ordinal] = PRIMITIVE;
+                } else if (Long.class == this.primitiveType && value instanceof Long) {
+                    this.longs[ordinal] = (Long) value;
+                    this.states[ordinal] = PRIMITIVE;
+                } else {
+                    objects()[ordinal] = value;
+                    this.states[ordinal] = OBJECT;
+                }
+                return new ComputeVertexProperty<>(this, vertex, value);
+            } else {
+                final ComputeVertexProperty<V> property = new ComputeVertexProperty<>(this, vertex, value);
+                promote(ordinal, vertex).add(property);
+                property.promoted = true;
+                return property;
+            }
+        }
+
+        private List<VertexProperty<?>> get(final TinkerVertex vertex) {
+            final int ordinal = TinkerHelper.getOrdinal(vertex);
+            switch (this.states[ordinal]) {
+                case PRIMITIVE:
+                    return Collections.singletonList(new ComputeVertexProperty<>(this, vertex, primitiveValue(ordinal)));
+                case OBJECT:
+                    final Object slot = this.objects[ordinal];
+                    return slot instanceof PropertyList ?
+                            (PropertyList) slot :
+                            Collections.singletonList(new ComputeVertexProperty<>(this, vertex, slot));
+                default:
+                    return Collections.emptyList();
+            }
+        }
+
+        private void remove(final TinkerVertex vertex, final VertexProperty<?> property) {
+            final int ordinal = TinkerHelper.getOrdinal(vertex);
+            if (OBJECT == this.states[ordinal] && this.objects[ordinal] instanceof PropertyList) {
+                final PropertyList list = (PropertyList) this.objects[ordinal];
+                if (!list.remove(property)) {
+                    // a property created before the slot was promoted is matched by its value
+                    for (int i = 0; i < list.size(); i++) {
+                        if (Objects.equals(list.get(i).value(), property.value())) {
+                            list.remove(i);
+                            break;
+                        }
+                    }
+                }
+                if (!list.isEmpty()) return;
+            }
+            clear(ordinal);
+        }
+
+        /**
+         * Converts the slot to a {@link PropertyList} so that it may hold more than one property or properties with
+         * meta-properties.
+         */
+        private PropertyList promote(final int ordinal, final TinkerVertex vertex) {
+            if (OBJECT == this.states[ordinal] && this.objects[ordinal] instanceof PropertyList)
+                return (PropertyList) this.objects[ordinal];
+
+            final PropertyList list = new PropertyList();
+            if (PRIMITIVE == this.states[ordinal])
+                list.add(new ComputeVertexProperty<>(this, vertex, primitiveValue(ordinal), true));
+            else if (OBJECT == this.states[ordinal])
+                list.add(new ComputeVertexProperty<>(this, vertex, this.objects[ordinal], true));
+
+            objects()[ordinal] = list;
+            this.states[ordinal] = OBJECT;
+            return list;
+        }
+
+        /**
+         * Replaces the raw value of a property in its slot with the property object itself.
+         */
+        private void retain(final TinkerVertex vertex, final VertexProperty<?> property) {
+            final int ordinal = TinkerHelper.getOrdinal(vertex);
+            final boolean wasPromoted = OBJECT == this.states[ordinal] && this.objects[ordinal] instanceof PropertyList;
+            final PropertyList list = promote(ordinal, vertex);
+            if (!wasPromoted) list.clear();
+
+            for (int i = 0; i < list.size(); i++) {
+                if (!list.get(i).properties().hasNext() && Objects.equals(list.get(i).value(), property.value())) {
+                    list.set(i, property);
+                    return;
+                }
+            }
+            list.add(property);
+        }
+
+        private void clear(final int ordinal) {
+            if (OBJECT == this.states[ordinal]) this.objects[ordinal] = null;
+            this.states[ordinal] = ABSENT;
+        }
+
+        private Object primitiveValue(final int ordinal) {
+            return Double.class == this.primitiveType ? (Object) this.doubles[ordinal] : (Object) this.longs[ordinal];
+        }
+
+        private synchronized void initialize(final Object value) {
+            if (this.initialized) return;
+            if (value instanceof Double) {
+                this.doubles = new double[this.states.length];
+                this.primitiveType = Double.class;
+            } else if (value instanceof Long) {
+                this.longs = new long[this.states.length];
+                this.primitiveType = Long.class;
+            }
+            this.initialized = true;
+        }
+
+        private Object[] objects() {
+            Object[] objects = this.objects;
+            if (null == objects) {
+                synchronized (this) {
+                    if (null == this.objects) this.objects = new Object[this.states.length];
+                    objects = this.objects;
+                }
+            }
+            return objects;
+        }
     }
 
-    private void removeValue(final Vertex vertex, final String key, final VertexProperty property) {
-        this.computeProperties.<List<Map<String, VertexProperty<?>>>>getOrDefault(vertex, Collections.emptyMap()).get(key).remove(property);
+    /**
+     * The properties of a slot that holds more than a single raw value.
+     */
+    private static final class PropertyList extends ArrayList<VertexProperty<?>> {
+        private PropertyList() {
+            super(2);
+        }
     }
 
-    private List<VertexProperty<?>> getValue(final Vertex vertex, final String key) {
-        return this.computeProperties.getOrDefault(vertex, Collections.emptyMap()).getOrDefault(key, Collections.emptyList());
+    /**
+     * A {@link VertexProperty} over a value held in a {@link ComputeColumn}. Adding a meta-property promotes the
+     * slot so that the property object itself is retained.
+     */
+    private static final class ComputeVertexProperty<V> extends TinkerVertexProperty<V> {
+        private final ComputeColumn column;
+        private boolean promoted;
+
+        private ComputeVertexProperty(final ComputeColumn column, final TinkerVertex vertex, final V value) {
+            this(column, vertex, value, false);
+        }
+
+        private ComputeVertexProperty(final ComputeColumn column, final TinkerVertex vertex, final V value, final boolean promoted) {
+            super(vertex, column.key, value);
+            this.column = column;
+            this.promoted = promoted;
+        }
+
+        @Override
+        public <U> Property<U> property(final String key, final U value) {
+            if (!this.promoted) {
+                this.column.retain((TinkerVertex) this.element(), this);
+                this.promoted = true;
+            }
+            return super.property(key, value);
+        }
+
+        @Override
+        public void remove() {
+            this.column.remove((TinkerVertex) this.element(), this);
+        }
     }
-}
\ No newline at end of file
+}
@@ -18,29 +18,370 @@
  */
 package org.apache.tinkerpop.gremlin.tinkergraph.process.computer;
 
+import org.apache.tinkerpop.gremlin.process.computer.MessageCombiner;
 import org.apache.tinkerpop.gremlin.process.computer.MessageScope;
+import org.apache.tinkerpop.gremlin.process.traversal.Step;
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.VertexStep;
+import org.apache.tinkerpop.gremlin.structure.Direction;
+import org.apache.tinkerpop.gremlin.structure.Edge;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
 
-import java.util.HashSet;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Queue;
-import java.util.Set;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.BiFunction;
 
 /**
+ * Holds the messages of a {@link TinkerGraphComputer} job. Messages are addressed by the ordinal that the
+ * {@link TinkerGraphComputerView} assigns to each vertex. Every worker writes to its own {@link Outbox} during an
+ * iteration so sending requires no coordination between workers, and the outboxes are merged into one inbox per
+ * {@link MessageScope} when the iteration completes. If a {@link MessageCombiner} is present, messages are combined
+ * in place as they are sent and again as the outboxes are merged so that each vertex holds at most one message.
+ * <p/>
+ * When the {@link org.apache.tinkerpop.gremlin.process.computer.VertexProgram} is message-driven, the board also
+ * determines the frontier of the next iteration, being the vertices that will receive messages along with those that
+ * asked to be kept active.
+ *
  * @author Marko A. Rodriguez (http://markorodriguez.com)
  */
 final class TinkerMessageBoard<M> {
 
-    public Map<MessageScope, Map<Vertex,Queue<M>>> sendMessages = new ConcurrentHashMap<>();
-    public Map<MessageScope, Map<Vertex, Queue<M>>> receiveMessages = new ConcurrentHashMap<>();
-    public Set<MessageScope> previousMessageScopes = new HashSet<>();
-    public Set<MessageScope> currentMessageScopes = new HashSet<>();
+    private final TinkerGraphComputerView view;
+    private final MessageCombiner<M> combiner;
+    private final boolean trackFrontier;
+    private final Queue<Outbox<M>> availableOutboxes = new ConcurrentLinkedQueue<>();
+    private final List<Outbox<M>> outboxes = new ArrayList<>();
+    private List<Inbox<M>> receiveMessages = Collections.emptyList();
+    private boolean[] frontier = null;
+
+    public TinkerMessageBoard(final TinkerGraphComputerView view, final Optional<MessageCombiner<M>> combiner,
+                              final boolean trackFrontier) {
+        this.view = view;
+        this.combiner = combiner.orElse(null);
+        this.trackFrontier = trackFrontier;
+    }
 
+    public TinkerGraphComputerView getView() {
+        return this.view;
+    }
+
+    /**
+     * Gets an {@link Outbox} for the exclusive use of a worker until it is returned with {@link #offerOutbox(Outbox)}.
+     */
+    public Outbox<M> takeOutbox() {
+        final Outbox<M> outbox = this.availableOutboxes.poll();
+        if (null != outbox) return outbox;
+
+        final Outbox<M> newOutbox = new Outbox<>(this.view.getVertexCount(), this.combiner, this.trackFrontier);
+        synchronized (this.outboxes) {
+            this.outboxes.add(newOutbox);
+        }
+        return newOutbox;
+    }
+
+    public void offerOutbox(final Outbox<M> outbox) {
+        this.availableOutboxes.offer(outbox);
+    }
+
+    /**
+     * Gets the inboxes holding the messages sent in the previous iteration.
+     */
+    public List<Inbox<M>> getReceiveMessages() {
+        return this.receiveMessages;
+    }
+
+    /**
+     * Gets the vertices to execute in the current iteration indexed by vertex ordinal. The frontier is only known
+     * when tracking was requested and an iteration has completed, otherwise {@code null} is returned to denote that
+     * all vertices are to be executed.
+     */
+    public boolean[] getFrontier() {
+        return this.frontier;
+    }
+
+    /**
+     * Merges the messages sent by all workers so that they may be received in the next iteration.
+     */
     public void completeIteration() {
-        this.receiveMessages = this.sendMessages;
-        this.sendMessages = new ConcurrentHashMap<>();
-        this.previousMessageScopes = this.currentMessageScopes;
-        this.currentMessageScopes = new HashSet<>();
+        final List<Inbox<M>> inboxes = new ArrayList<>();
+        final boolean[] nextFrontier = this.trackFrontier ? new boolean[this.view.getVertexCount()] : null;
+        for (final Outbox<M> outbox : this.outboxes) {
+            if (null != outbox.keepActive) {
+                for (int i = 0; i < nextFrontier.length; i++) {
+                    nextFrontier[i] = nextFrontier[i] || outbox.keepActive[i];
+                }
+                outbox.keepActive = null;
+            }
+            for (final Map.Entry<MessageScope, OutboxMessages<M>> entry : outbox.scopes.entrySet()) {
+                Inbox<M> inbox = null;
+                for (final Inbox<M> existing : inboxes) {
+                    if (existing.messageScope.equals(entry.getKey())) {
+                        inbox = existing;
+                        break;
+                    }
+                }
+
+                if (null == inbox) {
+                    inbox = new Inbox<>(this.view, entry.getKey());
+                    inboxes.add(inbox);
+                }
+
+                entry.getValue().drainTo(inbox.messages, this.combiner);
+            }
+            outbox.scopes.clear();
+        }
+
+        if (null != nextFrontier) {
+            for (final Inbox<M> inbox : inboxes) {
+                inbox.addReceivers(nextFrontier);
+            }
+        }
+        this.receiveMessages = inboxes;
+        this.frontier = nextFrontier;
+    }
+
+    /**
+     * Accumulates the messages sent by a single worker in an iteration.
+     */
+    static final class Outbox<M> {
+        private final int vertexCount;
+        private final MessageCombiner<M> combiner;
+        private final boolean trackFrontier;
+        private final Map<MessageScope, OutboxMessages<M>> scopes = new IdentityHashMap<>();
+        private boolean[] keepActive = null;
+
+        private Outbox(final int vertexCount, final MessageCombiner<M> combiner, final boolean trackFrontier) {
+            this.vertexCount = vertexCount;
+            this.combiner = combiner;
+            this.trackFrontier = trackFrontier;
+        }
+
+        public void add(final MessageScope messageScope, final int ordinal, final M message) {
+            OutboxMessages<M> messages = this.scopes.get(messageScope);
+            if (null == messages) {
+                messages = null == this.combiner ? new AppendedMessages<>() : new CombinedMessages<>(this.vertexCount);
+                this.scopes.put(messageScope, messages);
+            }
+            messages.add(ordinal, message, this.combiner);
+        }
+
+        public void keepActive(final int ordinal) {
+            if (!this.trackFrontier) return;
+            if (null == this.keepActive)
+                this.keepActive = new boolean[this.vertexCount];
+            this.keepActive[ordinal] = true;
+        }
+    }
+
+    /**
+     * The messages of a {@link MessageScope} that are available to be received in the current iteration. Each slot
+     * of the array indexed by vertex ordinal holds nothing, a single message or a {@link MessageList}.
+     */
+    static final class Inbox<M> {
+        private final TinkerGraphComputerView view;
+        private final MessageScope messageScope;
+        private final Object[] messages;
+        private final Direction direction;
+        private final String[] edgeLabels;
+
+        private Inbox(final TinkerGraphComputerView view, final MessageScope messageScope) {
+            this.view = view;
+            this.messageScope = messageScope;
+            this.messages = new Object[view.getVertexCount()];
+
+            // an incident traversal like outE('knows') can be answered by walking the edges of the receiving vertex
+            // directly. anything more complex has to be evaluated as a traversal.
+            Direction direction = null;
+            String[] edgeLabels = null;
+            if (messageScope instanceof MessageScope.Local) {
+                final List<Step> steps = ((MessageScope.Local<?>) messageScope).getIncidentTraversal().get().asAdmin().getSteps();
+                if (steps.size() == 1 && steps.get(0) instanceof VertexStep && ((VertexStep) steps.get(0)).returnsEdge()) {
+                    direction = ((VertexStep) steps.get(0)).getDirection();
+                    edgeLabels = ((VertexStep) steps.get(0)).getEdgeLabels();
+                }
+            }
+            this.direction = direction;
+            this.edgeLabels = edgeLabels;
+        }
+
+        public MessageScope getMessageScope() {
+            return this.messageScope;
+        }
+
+        /**
+         * Determines if messages of a {@link MessageScope.Local} can be gathered with
+         * {@link #addIncidentMessages(Vertex, List)} rather than by evaluating the incident traversal.
+         */
+        public boolean isSimpleIncidence() {
+            return null != this.direction;
+        }
+
+        public void addMessages(final int ordinal, final List<M> received) {
+            if (ordinal >= 0) addSlot(this.messages[ordinal], received);
+        }
+
+        public void addMessages(final int ordinal, final Edge edge, final List<M> received) {
+            if (ordinal < 0) return;
+            final Object slot = this.messages[ordinal];
+            if (null == slot) return;
+
+            final BiFunction<M, Edge, M> edgeFunction = ((MessageScope.Local<M>) this.messageScope).getEdgeFunction();
+            if (slot instanceof MessageList) {
+                for (final Object message : (MessageList) slot) {
+                    received.add(edgeFunction.apply((M) message, edge));
+                }
+            } else {
+                received.add(edgeFunction.apply((M) slot, edge));
+            }
+        }
+
+        /**
+         * Gathers the messages sent to the vertex by its neighbors along the edges of a simple incident traversal.
+         */
+        public void addIncidentMessages(final Vertex vertex, final List<M> received) {
+            final Iterator<Edge> edges = vertex.edges(this.direction.opposite(), this.edgeLabels);
+            while (edges.hasNext()) {
+                final Edge edge = edges.next();
+                final Vertex sender;
+                if (Direction.OUT == this.direction)
+                    sender = edge.outVertex();
+                else if (Direction.IN == this.direction)
+                    sender = edge.inVertex();
+                else
+                    sender = edge.outVertex() == vertex ? edge.inVertex() : edge.outVertex();
+                addMessages(this.view.getOrdinal(sender), edge, received);
+            }
+        }
+
+        /**
+         * Marks the vertices that receive the messages of this inbox. Messages of a {@link MessageScope.Local} are
+         * held at their sender, so the incident traversal is walked forward from each sender to find its receivers.
+         */
+        private void addReceivers(final boolean[] receivers) {
+            for (int i = 0; i < this.messages.length; i++) {
+                if (null == this.messages[i]) continue;
+                if (!(this.messageScope instanceof MessageScope.Local)) {
+                    receivers[i] = true;
+                    continue;
+                }
+
+                final Vertex sender = this.view.getVertex(i);
+                final Iterator<Edge> edges;
+                final Direction direction;
+                if (isSimpleIncidence()) {
+                    edges = sender.edges(this.direction, this.edgeLabels);
+                    direction = this.direction;
+                } else {
+                    final Traversal.Admin<Vertex, Edge> incidentTraversal = TinkerMessenger.setVertexStart(((MessageScope.Local<?>) this.messageScope).getIncidentTraversal().get().asAdmin(), sender);
+                    edges = incidentTraversal;
+                    direction = TinkerMessenger.getDirection(incidentTraversal);
+                }
+                while (edges.hasNext()) {
+                    final Edge edge = edges.next();
+                    final Vertex receiver;
+                    if (Direction.OUT == direction)
+                        receiver = edge.inVertex();
+                    else if (Direction.IN == direction)
+                        receiver = edge.outVertex();
+                    else
+                        receiver = edge.outVertex() == sender ? edge.inVertex() : edge.outVertex();
+                    final int ordinal = this.view.getOrdinal(receiver);
+                    if (ordinal >= 0) receivers[ordinal] = true;
+                }
+            }
+        }
+
+        private void addSlot(final Object slot, final List<M> received) {
+            if (null == slot) return;
+            if (slot instanceof MessageList)
+                received.addAll((List) slot);
+            else
+                received.add((M) slot);
+        }
+    }
+
+    /**
+     * Holds more than one message in an inbox slot. A dedicated class ensures that a message which happens to be a
+     * {@code List} is not mistaken for a group of messages.
+     */
+    private static final class MessageList extends ArrayList<Object> {
+        private MessageList(final Object first, final Object second) {
+            super(4);
+            add(first);
+            add(second);
+        }
+    }
+
+    private interface OutboxMessages<M> {
+        void add(final int ordinal, final M message, final MessageCombiner<M> combiner);
+
+        void drainTo(final Object[] inbox, final MessageCombiner<M> combiner);
+    }
+
+    /**
+     * Messages that are combined in place in an array indexed by vertex ordinal.
+     */
+    private static final class CombinedMessages<M> implements OutboxMessages<M> {
+        private final Object[] messages;
+
+        private CombinedMessages(final int vertexCount) {
+            this.messages = new Object[vertexCount];
+        }
+
+        @Override
+        public void add(final int ordinal, final M message, final MessageCombiner<M> combiner) {
+            final Object current = this.messages[ordinal];
+            this.messages[ordinal] = null == current ? message : combiner.combine((M) current, message);
+        }
+
+        @Override
+        public void drainTo(final Object[] inbox, final MessageCombiner<M> combiner) {
+            for (int i = 0; i < this.messages.length; i++) {
+                final Object message = this.messages[i];
+                if (null != message)
+                    inbox[i] = null == inbox[i] ? message : combiner.combine((M) inbox[i], (M) message);
+            }
+        }
+    }
+
+    /**
+     * Messages that are appended to parallel arrays of recipient ordinals and messages.
+     */
+    private static final class AppendedMessages<M> implements OutboxMessages<M> {
+        private int[] ordinals = new int[16];
+        private Object[] messages = new Object[16];
+        private int size = 0;
+
+        @Override
+        public void add(final int ordinal, final M message, final MessageCombiner<M> combiner) {
+            if (this.size == this.ordinals.length) {
+                this.ordinals = Arrays.copyOf(this.ordinals, this.size * 2);
+                this.messages = Arrays.copyOf(this.messages, this.size * 2);
+            }
+            this.ordinals[this.size] = ordinal;
+            this.messages[this.size++] = message;
+        }
+
+        @Override
+        public void drainTo(final Object[] inbox, final MessageCombiner<M> combiner) {
+            for (int i = 0; i < this.size; i++) {
+                final int ordinal = this.ordinals[i];
+                final Object current = inbox[ordinal];
+                if (null == current)
+                    inbox[ordinal] = this.messages[i];
+                else if (current instanceof MessageList)
+                    ((MessageList) current).add(this.messages[i]);
+                else
+                    inbox[ordinal] = new MessageList(current, this.messages[i]);
+            }
+        }
     }
 }
@@ -18,29 +18,19 @@
  */
 package org.apache.tinkerpop.gremlin.tinkergraph.process.computer;
 
-import org.apache.tinkerpop.gremlin.process.computer.MessageCombiner;
 import org.apache.tinkerpop.gremlin.process.computer.MessageScope;
 import org.apache.tinkerpop.gremlin.process.computer.Messenger;
 import org.apache.tinkerpop.gremlin.process.computer.util.VertexProgramHelper;
 import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
 import org.apache.tinkerpop.gremlin.process.traversal.step.map.VertexStep;
-import org.apache.tinkerpop.gremlin.process.traversal.step.sideEffect.StartStep;
 import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalHelper;
 import org.apache.tinkerpop.gremlin.structure.Direction;
 import org.apache.tinkerpop.gremlin.structure.Edge;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
-import org.apache.tinkerpop.gremlin.util.iterator.IteratorUtils;
-import org.apache.tinkerpop.gremlin.util.iterator.MultiIterator;
 
+import java.util.ArrayList;
 import java.util.Iterator;
-import java.util.Optional;
-import java.util.Queue;
-import java.util.Spliterator;
-import java.util.Spliterators;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentLinkedQueue;
-import java.util.stream.Stream;
-import java.util.stream.StreamSupport;
+import java.util.List;
 
 /**
  * @author Marko A. Rodriguez (http://markorodriguez.com)
@@ -48,82 +38,74 @@ import java.util.stream.StreamSupport;
 public final class TinkerMessenger<M> implements Messenger<M> {
 
     private final Vertex vertex;
+    private final int ordinal;
     private final TinkerMessageBoard<M> messageBoard;
-    private final MessageCombiner<M> combiner;
+    private final TinkerMessageBoard.Outbox<M> outbox;
 
-    public TinkerMessenger(final Vertex vertex, final TinkerMessageBoard<M> messageBoard, final Optional<MessageCombiner<M>> combiner) {
+    TinkerMessenger(final Vertex vertex, final TinkerMessageBoard<M> messageBoard, final TinkerMessageBoard.Outbox<M> outbox) {
         this.vertex = vertex;
+        this.ordinal = messageBoard.getView().getOrdinal(vertex);
         this.messageBoard = messageBoard;
-        this.combiner = combiner.isPresent() ? combiner.get() : null;
+        this.outbox = outbox;
     }
 
     @Override
     public Iterator<M> receiveMessages() {
-        final MultiIterator<M> multiIterator = new MultiIterator<>();
-        for (final MessageScope messageScope : this.messageBoard.receiveMessages.keySet()) {
-//        for (final MessageScope messageScope : this.messageBoard.previousMessageScopes) {
-            if (messageScope instanceof MessageScope.Local) {
-                final MessageScope.Local<M> localMessageScope = (MessageScope.Local<M>) messageScope;
-                final Traversal.Admin<Vertex, Edge> incidentTraversal = TinkerMessenger.setVertexStart(localMessageScope.getIncidentTraversal().get().asAdmin(), this.vertex);
-                final Direction direction = TinkerMessenger.getDirection(incidentTraversal);
-                final Edge[] edge = new Edge[1]; // simulates storage side-effects available in Gremlin, but not Java8 streams
-                multiIterator.addIterator(StreamSupport.stream(Spliterators.spliteratorUnknownSize(VertexProgramHelper.reverse(incidentTraversal.asAdmin()), Spliterator.IMMUTABLE | Spliterator.SIZED), false)
-                        .map((Edge e) -> {
-                            edge[0] = e;
-                            Vertex vv;
-                            if (direction.equals(Direction.IN) || direction.equals(Direction.OUT)) {
-                                vv = e.vertices(direction).next();
-                            } else {
-                                vv = e.outVertex() == this.vertex ? e.inVertex() : e.outVertex();
-                            }
-                            return this.messageBoard.receiveMessages.get(messageScope).get(vv);
-                        })
-                        .filter(q -> null != q)
-                        .flatMap(Queue::stream)
-                        .map(message -> localMessageScope.getEdgeFunction().apply(message, edge[0]))
-                        .iterator());
-
+        final List<M> messages = new ArrayList<>();
+        for (final TinkerMessageBoard.Inbox<M> inbox : this.messageBoard.getReceiveMessages()) {
+            if (inbox.getMessageScope() instanceof MessageScope.Local) {
+                if (inbox.isSimpleIncidence()) {
+                    inbox.addIncidentMessages(this.vertex, messages);
+                } else {
+                    final MessageScope.Local<M> localMessageScope = (MessageScope.Local<M>) inbox.getMessageScope();
+                    final Traversal.Admin<Vertex, Edge> incidentTraversal = TinkerMessenger.setVertexStart(localMessageScope.getIncidentTraversal().get().asAdmin(), this.vertex);
+                    final Direction direction = TinkerMessenger.getDirection(incidentTraversal);
+                    final Iterator<Edge> edges = VertexProgramHelper.reverse(incidentTraversal);
+                    while (edges.hasNext()) {
+                        final Edge edge = edges.next();
+                        final Vertex sender;
+                        if (direction.equals(Direction.IN) || direction.equals(Direction.OUT)) {
+                            sender = edge.vertices(direction).next();
+                        } else {
+                            sender = edge.outVertex() == this.vertex ? edge.inVertex() : edge.outVertex();
+                        }
+                        inbox.addMessages(this.messageBoard.getView().getOrdinal(sender), edge, messages);
+                    }
+                }
             } else {
-                multiIterator.addIterator(Stream.of(this.vertex)
-                        .map(this.messageBoard.receiveMessages.get(messageScope)::get)
-                        .filter(q -> null != q)
-                        .flatMap(Queue::stream)
-                        .iterator());
+                inbox.addMessages(this.ordinal, messages);
             }
         }
-        return multiIterator;
+        return messages.iterator();
     }
 
     @Override
     public void sendMessage(final MessageScope messageScope, final M message) {
-//        this.messageBoard.currentMessageScopes.add(messageScope);
         if (messageScope instanceof MessageScope.Local) {
-            addMessage(this.vertex, message, messageScope);
+            this.outbox.add(messageScope, this.ordinal, message);
         } else {
-            ((MessageScope.Global) messageScope).vertices().forEach(v -> addMessage(v, message, messageScope));
+            // all global scopes share a single inbox
+            for (final Vertex v : ((MessageScope.Global) messageScope).vertices()) {
+                final int recipient = this.messageBoard.getView().getOrdinal(v);
+                if (recipient >= 0)
+                    this.outbox.add(MessageScope.Global.instance(), recipient, message);
+            }
         }
     }
 
-    private void addMessage(final Vertex vertex, final M message, MessageScope messageScope) {
-        this.messageBoard.sendMessages.compute(messageScope, (ms, messages) -> {
-            if(null==messages) messages = new ConcurrentHashMap<>();
-            return messages;
-        });
-        this.messageBoard.sendMessages.get(messageScope).compute(vertex, (v, queue) -> {
-            if (null == queue) queue = new ConcurrentLinkedQueue<>();
-            queue.add(null != this.combiner && !queue.isEmpty() ? this.combiner.combine(queue.remove(), message) : message);
-            return queue;
-        });
+    @Override
+    public void keepActive() {
+        this.outbox.keepActive(this.ordinal);
     }
 
     ///////////
 
-    private static <T extends Traversal.Admin<Vertex, Edge>> T setVertexStart(final Traversal.Admin<Vertex, Edge> incidentTraversal, final Vertex vertex) {
+    static <T extends Traversal.Admin<Vertex, Edge>> T setVertexStart(final Traversal.Admin<Vertex, Edge> incidentTraversal, final Vertex vertex) {
         incidentTraversal.addStart(incidentTraversal.getTraverserGenerator().generate(vertex,incidentTraversal.getStartStep(),1l));
         return (T) incidentTraversal;
     }
 
-    private static Direction getDirection(final Traversal.Admin<Vertex, Edge> incidentTraversal) {
+    static Direction getDirection(final Traversal.Admin<Vertex, Edge> incidentTraversal) {
         final VertexStep step = TraversalHelper.getLastStepOfAssignableClass(VertexStep.class, incidentTraversal).get();
         return step.getDirection();
     }
@@ -23,23 +23,36 @@ import org.apache.tinkerpop.gremlin.process.computer.MapReduce;
 import org.apache.tinkerpop.gremlin.process.computer.VertexProgram;
 import org.apache.tinkerpop.gremlin.process.computer.util.MapReducePool;
 import org.apache.tinkerpop.gremlin.process.computer.util.VertexProgramPool;
+import org.apache.tinkerpop.gremlin.structure.Direction;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
 import org.apache.tinkerpop.gremlin.tinkergraph.structure.TinkerGraph;
 import org.apache.tinkerpop.gremlin.tinkergraph.structure.TinkerHelper;
+import org.apache.tinkerpop.gremlin.tinkergraph.structure.TinkerVertex;
 import org.apache.tinkerpop.gremlin.util.function.TriConsumer;
+import org.apache.tinkerpop.gremlin.util.iterator.IteratorUtils;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
+import java.util.NoSuchElementException;
 import java.util.Queue;
 import java.util.concurrent.CompletionService;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ExecutorCompletionService;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 
 /**
+ * Executes the work of a {@link TinkerGraphComputer} across a fixed number of workers. The vertices are split into
+ * many small chunks of roughly equal weight, where the weight of a vertex grows with its degree, and each worker
+ * takes the next available chunk whenever it finishes one. A worker that draws a supernode therefore does not hold
+ * up the others as they simply process more of the remaining chunks.
+ *
  * @author Marko A. Rodriguez (http://markorodriguez.com)
  * @author Stephen Mallette (http://stephen.genoprime.com)
  */
@@ -47,6 +60,12 @@ public final class TinkerWorkerPool implements AutoCloseable {
 
     private static final BasicThreadFactory THREAD_FACTORY_WORKER = new BasicThreadFactory.Builder().namingPattern("tinker-worker-%d").build();
 
+    /**
+     * The number of chunks to create for each worker so that there is enough work left to balance near the end of
+     * an iteration.
+     */
+    private static final int CHUNKS_PER_WORKER = 16;
+
     private final int numberOfWorkers;
     private final ExecutorService workerPool;
     private final CompletionService<Object> completionService;
@@ -54,34 +73,45 @@ public final class TinkerWorkerPool implements AutoCloseable {
     private VertexProgramPool vertexProgramPool;
     private MapReducePool mapReducePool;
     private final Queue<TinkerWorkerMemory> workerMemoryPool = new ConcurrentLinkedQueue<>();
-    private final List<List<Vertex>> workerVertices = new ArrayList<>();
+    private final List<List<Vertex>> vertexChunks = new ArrayList<>();
+    private final long[] workerTimes;
 
     public TinkerWorkerPool(final TinkerGraph graph, final TinkerMemory memory, final int numberOfWorkers) {
         this.numberOfWorkers = numberOfWorkers;
         this.workerPool = Executors.newFixedThreadPool(numberOfWorkers, THREAD_FACTORY_WORKER);
         this.completionService = new ExecutorCompletionService<>(this.workerPool);
+        this.workerTimes = new long[numberOfWorkers];
         for (int i = 0; i < this.numberOfWorkers; i++) {
             this.workerMemoryPool.add(new TinkerWorkerMemory(memory));
-            this.workerVertices.add(new ArrayList<>());
         }
-        int batchSize = TinkerHelper.getVertices(graph).size() / this.numberOfWorkers;
-        if (0 == batchSize)
-            batchSize = 1;
-        int counter = 0;
-        int index = 0;
 
-        List<Vertex> currentWorkerVertices = this.workerVertices.get(index);
+        // weigh each vertex by its degree as the cost of executing a vertex is largely in its edges and messages
+        final List<Vertex> vertices = new ArrayList<>(TinkerHelper.getVertices(graph).size());
+        final List<Long> weights = new ArrayList<>(TinkerHelper.getVertices(graph).size());
+        long totalWeight = 0;
         final Iterator<Vertex> iterator = graph.vertices();
         while (iterator.hasNext()) {
             final Vertex vertex = iterator.next();
-            if (counter++ < batchSize || index == this.workerVertices.size() - 1) {
-                currentWorkerVertices.add(vertex);
-            } else {
-                currentWorkerVertices = this.workerVertices.get(++index);
-                currentWorkerVertices.add(vertex);
-                counter = 1;
+            final long weight = 1 + IteratorUtils.count(vertex.edges(Direction.BOTH));
+            vertices.add(vertex);
+            weights.add(weight);
+            totalWeight = totalWeight + weight;
+        }
+
+        final long chunkWeight = Math.max(1, totalWeight / ((long) this.numberOfWorkers * CHUNKS_PER_WORKER));
+        List<Vertex> currentChunk = new ArrayList<>();
+        long currentWeight = 0;
+        for (int i = 0; i < vertices.size(); i++) {
+            currentChunk.add(vertices.get(i));
+            currentWeight = currentWeight + weights.get(i);
+            if (currentWeight >= chunkWeight) {
+                this.vertexChunks.add(currentChunk);
+                currentChunk = new ArrayList<>();
+                currentWeight = 0;
             }
         }
+        if (!currentChunk.isEmpty())
+            this.vertexChunks.add(currentChunk);
     }
 
     public void setVertexProgram(final VertexProgram vertexProgram) {
@@ -93,38 +123,69 @@ public final class TinkerWorkerPool implements AutoCloseable {
     }
 
     public void executeVertexProgram(final TriConsumer<Iterator<Vertex>, VertexProgram, TinkerWorkerMemory> worker) throws InterruptedException {
+        executeVertexProgram(null, worker);
+    }
+
+    /**
+     * Executes the vertex program over the vertices of the frontier, being those whose ordinal is marked in the
+     * supplied array. The chunks keep their weights so that workers continue to balance the vertices that remain.
+     *
+     * @param frontier the vertices to execute indexed by ordinal or {@code null} to execute all vertices
+     */
+    public void executeVertexProgram(final boolean[] frontier, final TriConsumer<Iterator<Vertex>, VertexProgram, TinkerWorkerMemory> worker) throws InterruptedException {
+        final AtomicInteger nextChunk = new AtomicInteger(0);
         for (int i = 0; i < this.numberOfWorkers; i++) {
             final int index = i;
             this.completionService.submit(() -> {
+                final long start = System.nanoTime();
                 final VertexProgram vp = this.vertexProgramPool.take();
                 final TinkerWorkerMemory workerMemory = this.workerMemoryPool.poll();
-                final List<Vertex> vertices = this.workerVertices.get(index);
-                worker.accept(vertices.iterator(), vp, workerMemory);
+                worker.accept(new ChunkIterator(nextChunk, frontier), vp, workerMemory);
                 this.vertexProgramPool.offer(vp);
                 this.workerMemoryPool.offer(workerMemory);
+                this.workerTimes[index] += System.nanoTime() - start;
                 return null;
             });
         }
-        for (int i = 0; i < this.numberOfWorkers; i++) {
-            try {
-                this.completionService.take().get();
-            } catch (InterruptedException ie) {
-                throw ie;
-            } catch (final Exception e) {
-                throw new IllegalStateException(e.getMessage(), e);
-            }
-        }
+        awaitWorkers();
+    }
+
+    /**
+     * Executes the map stage of a {@link MapReduce} where each worker is given an {@code Iterator} of the vertices
+     * it is to map.
+     */
+    public void executeMapReduce(final BiConsumer<Iterator<Vertex>, MapReduce> worker) throws InterruptedException {
+        final AtomicInteger nextChunk = new AtomicInteger(0);
+        executeMapReduce(mr -> worker.accept(new ChunkIterator(nextChunk, null), mr));
     }
 
     public void executeMapReduce(final Consumer<MapReduce> worker) throws InterruptedException {
         for (int i = 0; i < this.numberOfWorkers; i++) {
+            final int index = i;
             this.completionService.submit(() -> {
+                final long start = System.nanoTime();
                 final MapReduce mr = this.mapReducePool.take();
                 worker.accept(mr);
                 this.mapReducePool.offer(mr);
+                this.workerTimes[index] += System.nanoTime() - start;
                 return null;
             });
         }
+        awaitWorkers();
+    }
+
+    /**
+     * Gets the time in milliseconds that each worker has spent executing vertex programs and map reduce jobs.
+     */
+    public List<Long> getWorkerTimes() {
+        final List<Long> times = new ArrayList<>(this.numberOfWorkers);
+        for (final long time : this.workerTimes) {
+            times.add(TimeUnit.NANOSECONDS.toMillis(time));
+        }
+        return times;
+    }
+
+    private void awaitWorkers() throws InterruptedException {
         for (int i = 0; i < this.numberOfWorkers; i++) {
             try {
                 this.completionService.take().get();
@@ -136,6 +197,45 @@ public final class TinkerWorkerPool implements AutoCloseable {
         }
     }
 
+    /**
+     * Iterates the vertices of the chunks a worker takes from those shared by all workers, skipping any vertex that
+     * is not in the frontier when one is given.
+     */
+    private final class ChunkIterator implements Iterator<Vertex> {
+        private final AtomicInteger nextChunk;
+        private final boolean[] frontier;
+        private Iterator<Vertex> current = Collections.emptyIterator();
+        private Vertex next = null;
+
+        private ChunkIterator(final AtomicInteger nextChunk, final boolean[] frontier) {
+            this.nextChunk = nextChunk;
+            this.frontier = frontier;
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (null == this.next) {
+                while (!this.current.hasNext()) {
+                    final int chunk = this.nextChunk.getAndIncrement();
+                    if (chunk >= vertexChunks.size()) return false;
+                    this.current = vertexChunks.get(chunk).iterator();
+                }
+                final Vertex vertex = this.current.next();
+                if (null == this.frontier || this.frontier[TinkerHelper.getOrdinal((TinkerVertex) vertex)])
+                    this.next = vertex;
+            }
+            return true;
+        }
+
+        @Override
+        public Vertex next() {
+            if (!hasNext()) throw new NoSuchElementException();
+            final Vertex vertex = this.next;
+            this.next = null;
+            return vertex;
+        }
+    }
+
     public void closeNow() throws Exception {
         this.workerPool.shutdownNow();
     }
@@ -114,6 +114,14 @@ public final class TinkerHelper {
         graph.graphComputerView = null;
     }
 
+    public static int getOrdinal(final TinkerVertex vertex) {
+        return vertex.ordinal;
+    }
+
+    public static void setOrdinal(final TinkerVertex vertex, final int ordinal) {
+        vertex.ordinal = ordinal;
+    }
+
     public static Map<String, List<VertexProperty>> getProperties(final TinkerVertex vertex) {
         return null == vertex.properties ? Collections.emptyMap() : vertex.properties;
     }
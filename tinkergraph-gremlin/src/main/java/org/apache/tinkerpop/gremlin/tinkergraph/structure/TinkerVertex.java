@@ -45,6 +45,10 @@ public final class TinkerVertex extends TinkerElement implements Vertex {
     protected Map<String, List<VertexProperty>> properties;
     protected Map<String, Set<Edge>> outEdges;
     protected Map<String, Set<Edge>> inEdges;
+    /**
+     * The dense index of this vertex assigned by the current {@code TinkerGraphComputerView}.
+     */
+    protected int ordinal = -1;
     private final TinkerGraph graph;
 
     protected TinkerVertex(final Object id, final String label, final TinkerGraph graph) {
@@ -22,6 +22,8 @@ import org.apache.commons.configuration.BaseConfiguration;
 import org.apache.commons.configuration.Configuration;
 import org.apache.tinkerpop.gremlin.GraphHelper;
 import org.apache.tinkerpop.gremlin.TestHelper;
+import org.apache.tinkerpop.gremlin.process.computer.ComputerResult;
+import org.apache.tinkerpop.gremlin.process.computer.ranking.pagerank.PageRankVertexProgram;
 import org.apache.tinkerpop.gremlin.process.traversal.P;
 import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversalSource;
 import org.apache.tinkerpop.gremlin.structure.Edge;
@@ -42,6 +44,7 @@ import org.apache.tinkerpop.gremlin.structure.io.gryo.GryoClassResolverV1d0;
 import org.apache.tinkerpop.gremlin.structure.io.gryo.GryoMapper;
 import org.apache.tinkerpop.gremlin.structure.io.gryo.GryoVersion;
 import org.apache.tinkerpop.gremlin.structure.io.gryo.GryoWriter;
+import org.apache.tinkerpop.gremlin.tinkergraph.process.computer.TinkerGraphComputer;
 import org.apache.tinkerpop.gremlin.util.iterator.IteratorUtils;
 import org.apache.tinkerpop.shaded.jackson.databind.ObjectMapper;
 import org.apache.tinkerpop.shaded.kryo.ClassResolver;
@@ -70,6 +73,7 @@ import java.util.function.Consumer;
 import java.util.function.Supplier;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotSame;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.mock;
@@ -594,6 +598,21 @@ public class TinkerGraphTest {
         }
     }
 
+    @Test
+    public void shouldRecordWorkerTimesWhenConfigured() throws Exception {
+        final TinkerGraph graph = TinkerFactory.createModern();
+        final ComputerResult result = graph.compute(TinkerGraphComputer.class).workers(1)
+                .configure(TinkerGraphComputer.GREMLIN_TINKERGRAPH_COMPUTER_WORKER_TIMES, true)
+                .program(PageRankVertexProgram.build().create(graph)).submit().get();
+        final List<Long> workerTimes = result.memory().get(TinkerGraphComputer.GREMLIN_TINKERGRAPH_COMPUTER_WORKER_TIMES);
+        assertEquals(1, workerTimes.size());
+        assertEquals(6, IteratorUtils.count(result.graph().traversal().V().has(PageRankVertexProgram.PAGE_RANK)));
+
+        final ComputerResult resultWithoutTimes = graph.compute(TinkerGraphComputer.class).workers(1)
+                .program(PageRankVertexProgram.build().create(graph)).submit().get();
+        assertFalse(resultWithoutTimes.memory().exists(TinkerGraphComputer.GREMLIN_TINKERGRAPH_COMPUTER_WORKER_TIMES));
+    }
+
     @Test
     public void shouldCloneTinkergraph() {
         final TinkerGraph original = TinkerGraph.open();